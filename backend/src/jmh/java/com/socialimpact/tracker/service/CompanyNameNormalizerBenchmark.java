@@ -0,0 +1,89 @@
+package com.socialimpact.tracker.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회사명 정규화 벤치마크
+ *
+ * ./gradlew jmh -Pjmh.includes=CompanyNameNormalizerBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CompanyNameNormalizerBenchmark {
+
+    private static final String[] NAMES = {
+            "주식회사 에스케이하이닉스",
+            "(주)LG화학",
+            "㈜케이티앤지",
+            "POSCO홀딩스 주식회사",
+            "씨제이제일제당(주)",
+            "KB금융지주",
+            "삼성전자 주식회사",
+            "현대자동차(주) 울산공장",
+            "지에스칼텍스 유한회사",
+            "한국전력공사 [본사]"
+    };
+
+    private CompanyNameNormalizer normalizer;
+
+    @Setup
+    public void setUp() {
+        normalizer = new CompanyNameNormalizer();
+    }
+
+    @Benchmark
+    public void legacyRegexChain(Blackhole bh) {
+        for (String name : NAMES) {
+            bh.consume(legacyNormalize(name));
+        }
+    }
+
+    @Benchmark
+    public void singlePassScan(Blackhole bh) {
+        for (String name : NAMES) {
+            bh.consume(CompanyNameNormalizer.normalizeUncached(name));
+        }
+    }
+
+    @Benchmark
+    public void singlePassScanCached(Blackhole bh) {
+        for (String name : NAMES) {
+            bh.consume(normalizer.normalize(name));
+        }
+    }
+
+    /**
+     * 기존 GirCollectorService 구현 (비교용)
+     */
+    private static String legacyNormalize(String name) {
+        String normalized = name.replaceAll("주식회사", "")
+                .replaceAll("\\(주\\)", "")
+                .replaceAll("㈜", "")
+                .replaceAll("유한회사", "")
+                .replaceAll("\\(유\\)", "");
+
+        normalized = normalized.replace("SK", "에스케이")
+                .replace("LG", "엘지")
+                .replace("KT", "케이티")
+                .replace("GS", "지에스")
+                .replace("CJ", "씨제이")
+                .replace("KB", "케이비")
+                .replace("POSCO", "포스코")
+                .replace("Posco", "포스코");
+
+        normalized = normalized.replace("에스케이", "sk")
+                .replace("엘지", "lg")
+                .replace("케이티", "kt")
+                .replace("지에스", "gs")
+                .replace("씨제이", "cj")
+                .replace("케이비", "kb")
+                .replace("포스코", "posco");
+
+        return normalized.replaceAll("[\\s()\\-_.,]", "")
+                .toLowerCase();
+    }
+}
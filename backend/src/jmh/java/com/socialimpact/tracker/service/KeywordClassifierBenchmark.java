@@ -0,0 +1,144 @@
+package com.socialimpact.tracker.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 긍정 뉴스 키워드 필터 벤치마크 (기존 필터 체인 vs Aho-Corasick 한 번 훑기)
+ *
+ * ./gradlew jmh -Pjmh.includes=KeywordClassifierBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class KeywordClassifierBenchmark {
+
+    private static final Map<String, List<String>> POSITIVE = Map.ofEntries(
+            Map.entry("기부", Arrays.asList("기부", "후원", "기증", "장학금", "지원금", "성금", "모금", "전달식")),
+            Map.entry("봉사", Arrays.asList("봉사", "재능기부", "사회공헌", "자원봉사", "나눔")),
+            Map.entry("환경", Arrays.asList("친환경", "탄소중립", "재생에너지", "ESG", "녹색경영", "환경보호")),
+            Map.entry("교육", Arrays.asList("교육지원", "멘토링", "장학생", "인재양성", "교육기부")),
+            Map.entry("일자리", Arrays.asList("일자리창출", "채용확대", "신규채용", "청년고용", "정규직전환")),
+            Map.entry("지역사회", Arrays.asList("지역사회", "상생협력", "MOU", "업무협약", "협약식")),
+            Map.entry("윤리경영", Arrays.asList("윤리경영", "투명경영", "준법경영", "공정거래")),
+            Map.entry("혁신", Arrays.asList("R&D투자", "기술개발", "혁신", "특허"))
+    );
+
+    private static final Set<String> NEGATIVE = new HashSet<>(Arrays.asList(
+            "기소", "구속", "벌금", "과징금", "제재", "처벌", "징역", "실형", "법원", "재판", "소송",
+            "고소", "고발", "수사", "검찰", "경찰", "횡령", "배임", "사기", "뇌물", "비리", "탈세",
+            "적자", "손실", "부채", "파산", "회생", "구조조정", "감원", "해고", "정리해고", "희망퇴직",
+            "사고", "화재", "폭발", "리콜", "결함", "불량", "오염", "파업", "태업", "쟁의",
+            "논란", "비판", "질타", "반발", "항의", "의혹", "추정", "의심", "불투명",
+            "청소원", "경비원", "사외이사", "이사회참석", "불참", "체력시험"
+    ));
+
+    private static final Set<String> IRRELEVANT = new HashSet<>(Arrays.asList(
+            "날씨", "교통", "부동산", "아파트", "축구", "야구", "드라마", "영화", "연예인", "맛집"
+    ));
+
+    private static final Set<String> SUMMARY = new HashSet<>(Arrays.asList(
+            "장 마감 후", "장마감후", "e공시", "공시 눈에 띄네", "주요공시", "주요 공시",
+            "증권사 주요 공시", "오늘의 공시", "공시 요약"
+    ));
+
+    // 네이버 검색 결과와 비슷한 길이의 제목/요약 (통과, 부정, 종합뉴스, 무관 섞어서)
+    private static final String[][] ITEMS = {
+            {"삼성전자, 연말 이웃사랑 성금 500억원 기탁",
+                    "삼성전자가 연말을 맞아 사회복지공동모금회에 이웃사랑 성금 500억원을 전달했다고 밝혔다. 임직원 봉사활동도 이어간다."},
+            {"LG화학, 협력사와 탄소중립 상생협력 MOU 체결",
+                    "LG화학은 중소 협력사 30곳과 공급망 탄소중립을 위한 업무협약을 맺고 재생에너지 전환 비용을 지원하기로 했다."},
+            {"검찰, ㈜한화 전 임원 배임 혐의로 기소",
+                    "서울중앙지검은 회사에 손실을 끼친 혐의로 전 임원을 불구속 기소했다고 밝혔다. 회사 측은 재판에서 소명할 계획이다."},
+            {"[장 마감 후 주요 공시] ㈜농심, ㈜오뚜기, (주)빙그레 등",
+                    "오늘 장 마감 후 나온 주요 공시를 정리했다. 농심은 자기주식 취득, 오뚜기는 배당, 빙그레는 신규 시설투자를 공시했다."},
+            {"현대차, 주말 프로야구 경기장에서 신차 전시",
+                    "현대자동차는 이번 주말 야구 경기장에서 신차를 전시하고 관람객 대상 시승 행사를 진행한다고 밝혔다. 날씨에 따라 변동."},
+            {"SK하이닉스, 청년 인재양성 위한 반도체 아카데미 개설",
+                    "SK하이닉스는 대학생을 대상으로 반도체 교육지원 프로그램을 열고 우수 수료생에게 장학금과 신규채용 기회를 제공한다."}
+    };
+
+    private KeywordClassifier classifier;
+
+    @Setup
+    public void setUp() {
+        classifier = KeywordClassifier.builder()
+                .addCategories(KeywordClassifier.Group.POSITIVE, POSITIVE)
+                .addAll(KeywordClassifier.Group.NEGATIVE, NEGATIVE)
+                .addAll(KeywordClassifier.Group.IRRELEVANT, IRRELEVANT)
+                .addAll(KeywordClassifier.Group.SUMMARY, SUMMARY)
+                .addAll(KeywordClassifier.Group.COMPANY_MARKER, List.of("㈜", "(주)"))
+                .build();
+    }
+
+    @Benchmark
+    public void legacyFilterChain(Blackhole bh) {
+        for (String[] item : ITEMS) {
+            bh.consume(legacyAccept(item[0], item[1]));
+        }
+    }
+
+    @Benchmark
+    public void ahoCorasickSinglePass(Blackhole bh) {
+        for (String[] item : ITEMS) {
+            bh.consume(accept(item[0], item[1]));
+        }
+    }
+
+    private boolean accept(String title, String description) {
+        KeywordClassifier.Result matched = classifier.classify(title, description);
+
+        int markers = matched.count(KeywordClassifier.Group.COMPANY_MARKER);
+        if (matched.has(KeywordClassifier.Group.SUMMARY) || markers >= 3
+                || ((title.contains("등") || title.contains("外")) && markers >= 2)) {
+            return false;
+        }
+        return !matched.has(KeywordClassifier.Group.NEGATIVE)
+                && !matched.has(KeywordClassifier.Group.IRRELEVANT)
+                && matched.has(KeywordClassifier.Group.POSITIVE);
+    }
+
+    /**
+     * 기존 PositiveNewsCollectorService 필터 체인 (비교용)
+     */
+    private static boolean legacyAccept(String title, String description) {
+        String fullText = title + " " + description;
+        if (legacyIsSummaryNews(title, description)) {
+            return false;
+        }
+        if (legacyContains(NEGATIVE, fullText)) {
+            return false;
+        }
+        if (legacyContains(IRRELEVANT, fullText)) {
+            return false;
+        }
+        return POSITIVE.values().stream()
+                .flatMap(List::stream)
+                .anyMatch(fullText::contains);
+    }
+
+    private static boolean legacyIsSummaryNews(String title, String description) {
+        String fullText = title + " " + description;
+        if (SUMMARY.stream().anyMatch(fullText::contains)) {
+            return true;
+        }
+        long companyMarkerCount = fullText.chars().filter(ch -> ch == '㈜').count() +
+                (fullText.split("\\(주\\)").length - 1);
+        if (companyMarkerCount >= 3) {
+            return true;
+        }
+        return (title.contains("등") || title.contains("外")) && companyMarkerCount >= 2;
+    }
+
+    private static boolean legacyContains(Set<String> keywords, String text) {
+        String lowerText = text.toLowerCase();
+        return keywords.stream().anyMatch(keyword -> lowerText.contains(keyword.toLowerCase()));
+    }
+}
@@ -0,0 +1,227 @@
+package com.socialimpact.tracker.client;
+
+import com.socialimpact.tracker.service.QuotaExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 외부 API 별 AIMD 호출 속도 제어
+ *
+ * - 성공 시 초당 허용 호출 수(permits)를 조금씩 늘리고 (additive increase)
+ * - 429 / 한도 초과 응답 시 절반으로 줄인다 (multiplicative decrease)
+ * - Retry-After 가 있으면 그 시간 동안 호출을 막는다
+ * - 한도 초과가 연속으로 일정 횟수 이상이면 일일 한도 소진으로 판단한다
+ *
+ * 메트릭: upstream.permits, upstream.inflight, upstream.throttled, upstream.latency (tag: upstream)
+ */
+@Slf4j
+public class AdaptiveRateLimiter {
+
+    private static final double DECREASE_FACTOR = 0.5;
+    private static final Duration DEFAULT_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+
+    private final String name;
+    private final double minRate;
+    private final double maxRate;
+    private final double increaseStep;
+    private final int maxConsecutiveThrottles;
+
+    private double rate;
+    private long nextFreeNanos;
+    private long blockedUntilNanos;
+    private int consecutiveThrottles;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Timer latency;
+    private final Counter throttled;
+
+    public AdaptiveRateLimiter(String name, double initialRate, double minRate, double maxRate,
+                               double increaseStep, int maxConsecutiveThrottles, MeterRegistry registry) {
+        this.name = name;
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.increaseStep = increaseStep;
+        this.maxConsecutiveThrottles = maxConsecutiveThrottles;
+        this.rate = Math.max(minRate, Math.min(maxRate, initialRate));
+        this.nextFreeNanos = System.nanoTime();
+        this.blockedUntilNanos = nextFreeNanos;
+
+        Gauge.builder("upstream.permits", this, AdaptiveRateLimiter::getRate)
+                .tag("upstream", name)
+                .description("Current allowed calls per second")
+                .register(registry);
+        Gauge.builder("upstream.inflight", inFlight, AtomicInteger::get)
+                .tag("upstream", name)
+                .register(registry);
+        this.latency = Timer.builder("upstream.latency")
+                .tag("upstream", name)
+                .publishPercentiles(0.5, 0.95)
+                .register(registry);
+        this.throttled = Counter.builder("upstream.throttled")
+                .tag("upstream", name)
+                .register(registry);
+    }
+
+    /**
+     * 속도 제어를 적용한 호출
+     *
+     * - HTTP 429 또는 limitedResponse 가 true 인 응답(본문 상태코드로 한도를 알리는 API)은 감속 후 재시도
+     * - 연속 한도 초과가 maxConsecutiveThrottles 에 도달하면 QuotaExceededException
+     * - 그 밖의 4xx/5xx 는 한도와 무관한 오류로 그대로 던진다
+     */
+    public <T> T call(Supplier<T> request, Predicate<T> limitedResponse) {
+        while (true) {
+            try {
+                acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for " + name + " permit", e);
+            }
+
+            long start = System.nanoTime();
+            T response;
+            try {
+                response = request.get();
+            } catch (WebClientResponseException e) {
+                if (e.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                    throttleOrGiveUp(parseRetryAfter(e.getHeaders().getFirst("Retry-After")),
+                            e.getResponseBodyAsString());
+                    continue;
+                }
+                // 한도와 무관한 오류 - 슬롯만 돌려주고 속도는 올리지 않는다
+                latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                onError();
+                throw e;
+            } catch (RuntimeException e) {
+                onError();
+                throw e;
+            }
+
+            if (limitedResponse.test(response)) {
+                throttleOrGiveUp(null, String.valueOf(response));
+                continue;
+            }
+
+            onSuccess(System.nanoTime() - start);
+            return response;
+        }
+    }
+
+    private void throttleOrGiveUp(Duration retryAfter, String detail) {
+        if (onThrottle(retryAfter)) {
+            log.error("🚫 [{}] API 한도 도달 - {}회 연속 호출 제한", name, maxConsecutiveThrottles);
+            String shortDetail = detail != null && detail.length() > 200 ? detail.substring(0, 200) : detail;
+            throw new QuotaExceededException(name + " API limit reached: " + shortDetail);
+        }
+    }
+
+    /**
+     * 호출 슬롯 확보 (필요하면 대기)
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long start = Math.max(now, Math.max(nextFreeNanos, blockedUntilNanos));
+            nextFreeNanos = start + (long) (1_000_000_000L / rate);
+            waitNanos = start - now;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+        inFlight.incrementAndGet();
+    }
+
+    /**
+     * 정상 응답
+     */
+    public void onSuccess(long latencyNanos) {
+        inFlight.decrementAndGet();
+        latency.record(latencyNanos, TimeUnit.NANOSECONDS);
+        synchronized (this) {
+            consecutiveThrottles = 0;
+            rate = Math.min(maxRate, rate + increaseStep);
+        }
+    }
+
+    /**
+     * 429 / 한도 초과 응답 - 일일 한도 소진으로 판단되면 true
+     */
+    public boolean onThrottle(Duration retryAfter) {
+        inFlight.decrementAndGet();
+        throttled.increment();
+
+        Duration backoff = retryAfter != null ? retryAfter : DEFAULT_BACKOFF;
+        if (backoff.compareTo(MAX_BACKOFF) > 0) {
+            backoff = MAX_BACKOFF;
+        }
+
+        synchronized (this) {
+            consecutiveThrottles++;
+            rate = Math.max(minRate, rate * DECREASE_FACTOR);
+            blockedUntilNanos = Math.max(blockedUntilNanos, System.nanoTime() + backoff.toNanos());
+
+            log.warn("⚠️ [{}] 호출 제한 응답 ({}회 연속) → {}/s 로 감속, {}ms 대기",
+                    name, consecutiveThrottles, String.format("%.2f", rate), backoff.toMillis());
+
+            if (consecutiveThrottles >= maxConsecutiveThrottles) {
+                consecutiveThrottles = 0;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 한도와 무관하게 실패한 호출 (4xx/5xx, 네트워크 오류) - 속도와 연속 제한 횟수는 그대로
+     */
+    public void onError() {
+        inFlight.decrementAndGet();
+    }
+
+    public synchronized double getRate() {
+        return rate;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Retry-After 헤더 (초 단위 또는 HTTP 날짜, 없거나 해석 불가면 null - 지난 날짜는 0)
+     */
+    public static Duration parseRetryAfter(String header) {
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(header.trim()));
+        } catch (NumberFormatException e) {
+            try {
+                ZonedDateTime at = ZonedDateTime.parse(header.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                Duration until = Duration.between(ZonedDateTime.now(), at);
+                return until.isNegative() ? Duration.ZERO : until;
+            } catch (Exception ignored) {
+                return null;
+            }
+        }
+    }
+}
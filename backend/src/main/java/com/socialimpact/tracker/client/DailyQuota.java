@@ -0,0 +1,73 @@
+package com.socialimpact.tracker.client;
+
+import com.socialimpact.tracker.service.QuotaExceededException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * 외부 API 일일 호출 한도 (한도 구간 시간대 기준 자정에 초기화)
+ *
+ * AdaptiveRateLimiter 는 초당 속도를, 이 클래스는 하루 총량을 지킨다. 여러 수집 스레드가 함께 쓴다.
+ * 한도를 다 쓰면 QuotaExceededException 을 던져 작업을 다음 한도 구간으로 미룬다.
+ * 사용량은 메모리에만 있으므로 서버를 재시작하면 0 부터 다시 센다.
+ *
+ * 메트릭: upstream.quota.remaining (tag: upstream)
+ */
+@Slf4j
+public class DailyQuota {
+
+    private final String name;
+    private final int limit;
+    private final ZoneId zone;
+
+    private LocalDate day;
+    private int used;
+
+    public DailyQuota(String name, int limit, ZoneId zone, MeterRegistry registry) {
+        this.name = name;
+        this.limit = limit;
+        this.zone = zone;
+        this.day = LocalDate.now(zone);
+
+        Gauge.builder("upstream.quota.remaining", this, DailyQuota::getRemaining)
+                .tag("upstream", name)
+                .description("Calls left in the current daily quota window")
+                .register(registry);
+    }
+
+    /**
+     * 호출 한 번 차감 - 남은 한도가 없으면 QuotaExceededException
+     */
+    public synchronized void acquire() {
+        roll();
+        if (used >= limit) {
+            throw new QuotaExceededException(name + " daily quota exhausted (" + limit + " calls)");
+        }
+        used++;
+        if (used == limit) {
+            log.warn("🚫 [{}] 일일 한도 {}회 모두 사용", name, limit);
+        }
+    }
+
+    public synchronized int getRemaining() {
+        roll();
+        return limit - used;
+    }
+
+    public synchronized int getUsed() {
+        roll();
+        return used;
+    }
+
+    private void roll() {
+        LocalDate today = LocalDate.now(zone);
+        if (!today.equals(day)) {
+            day = today;
+            used = 0;
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package com.socialimpact.tracker.client;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 외부 API 응답 디스크 캐시
+ *
+ * - 키: 인증 파라미터(crtfc_key 등)를 뺀 정규화 URL 의 SHA-256 → {dir}/ab/abcd....bin
+ * - 파일: [저장 시각 8바이트][응답 본문], 임시 파일에 쓴 뒤 rename 으로 교체
+ * - TTL 은 호출하는 쪽이 엔드포인트별로 넘긴다 (읽을 때 판단하므로 설정 변경이 기존 파일에도 적용)
+ * - 전체 크기가 max-size-mb 를 넘으면 가장 오래 안 쓴 파일부터 삭제 (재시작 시 파일 수정시각으로 복원)
+ * - 큰 파일(corpCode.xml 등)은 메모리 매핑으로 읽는다
+ *
+ * 메트릭: upstream.cache.hits, upstream.cache.misses, upstream.cache.size
+ */
+@Slf4j
+@Component
+public class UpstreamResponseCache {
+
+    private static final Set<String> CREDENTIAL_PARAMS = Set.of(
+            "crtfc_key", "client_id", "client_secret", "serviceKey", "api_key");
+    private static final int HEADER_BYTES = Long.BYTES;
+    private static final long MMAP_THRESHOLD = 256 * 1024;
+    private static final String SUFFIX = ".bin";
+
+    private final boolean enabled;
+    private final Path root;
+    private final long maxBytes;
+
+    // key → 파일 크기 (접근 순서)
+    private final LinkedHashMap<String, Long> lru = new LinkedHashMap<>(1024, 0.75f, true);
+    private long totalBytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public UpstreamResponseCache(@Value("${upstream.cache.enabled:true}") boolean enabled,
+                                 @Value("${upstream.cache.dir:./data/http-cache}") String dir,
+                                 @Value("${upstream.cache.max-size-mb:1024}") long maxSizeMb,
+                                 MeterRegistry meterRegistry) {
+        this.root = Paths.get(dir).toAbsolutePath().normalize();
+        this.maxBytes = maxSizeMb * 1024 * 1024;
+        this.enabled = enabled && loadIndex();
+
+        FunctionCounter.builder("upstream.cache.hits", hits, AtomicLong::get).register(meterRegistry);
+        FunctionCounter.builder("upstream.cache.misses", misses, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("upstream.cache.size", this, cache -> cache.sizeBytes())
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public Optional<String> getString(URI uri, Duration ttl) {
+        return get(uri, ttl).map(body -> new String(body, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 본문에 따라 ttl 이 다른 캐시 조회 (예: "데이터 없음" 응답은 짧게) - 파일은 한 번만 읽는다
+     */
+    public Optional<String> getString(URI uri, Function<String, Duration> ttlOfBody) {
+        return get(uri, body -> ttlOfBody.apply(new String(body, StandardCharsets.UTF_8)))
+                .map(body -> new String(body, StandardCharsets.UTF_8));
+    }
+
+    public void putString(URI uri, String body) {
+        if (body != null) {
+            put(uri, body.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * 캐시 조회 - 없거나 ttl 이 지났으면 empty (ttl 0 이하면 캐시 미사용)
+     */
+    public Optional<byte[]> get(URI uri, Duration ttl) {
+        if (!isUsable(ttl)) {
+            return Optional.empty();
+        }
+        return get(uri, body -> ttl);
+    }
+
+    /**
+     * 캐시 조회 - ttl 을 본문을 보고 정한다 (0 이하면 없는 것으로 본다)
+     */
+    public Optional<byte[]> get(URI uri, Function<byte[], Duration> ttlOfBody) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        String key = cacheKey(uri);
+        synchronized (lru) {
+            if (lru.get(key) == null) {
+                misses.incrementAndGet();
+                return Optional.empty();
+            }
+        }
+
+        Path file = pathOf(key);
+        try {
+            ByteBuffer buffer = read(file);
+            long storedAt = buffer.getLong();
+            byte[] body = new byte[buffer.remaining()];
+            buffer.get(body);
+
+            Duration ttl = ttlOfBody.apply(body);
+            if (!isUsable(ttl) || System.currentTimeMillis() - storedAt > ttl.toMillis()) {
+                misses.incrementAndGet();
+                return Optional.empty();
+            }
+
+            touch(file);
+            hits.incrementAndGet();
+            return Optional.of(body);
+        } catch (IOException | RuntimeException e) {
+            log.debug("캐시 읽기 실패 [{}]: {}", key, e.getMessage());
+            forget(key);
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+    }
+
+    private static boolean isUsable(Duration ttl) {
+        return ttl != null && !ttl.isZero() && !ttl.isNegative();
+    }
+
+    /**
+     * 응답 저장 (같은 키는 덮어쓴다)
+     */
+    public void put(URI uri, byte[] body) {
+        if (!enabled || body == null) {
+            return;
+        }
+
+        String key = cacheKey(uri);
+        Path file = pathOf(key);
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = Files.createTempFile(file.getParent(), key, ".tmp");
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).putLong(0, System.currentTimeMillis());
+                channel.write(header);
+                channel.write(ByteBuffer.wrap(body));
+            }
+            try {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            log.debug("캐시 저장 실패 [{}]: {}", key, e.getMessage());
+            return;
+        }
+
+        synchronized (lru) {
+            Long previous = lru.put(key, (long) HEADER_BYTES + body.length);
+            totalBytes += HEADER_BYTES + body.length - (previous != null ? previous : 0);
+            evictIfNeeded();
+        }
+    }
+
+    public long sizeBytes() {
+        synchronized (lru) {
+            return totalBytes;
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("directory", root.toString());
+        synchronized (lru) {
+            stats.put("entries", lru.size());
+            stats.put("sizeBytes", totalBytes);
+        }
+        stats.put("maxSizeBytes", maxBytes);
+        stats.put("hits", hits.get());
+        stats.put("misses", misses.get());
+        return stats;
+    }
+
+    /**
+     * 정규화 URL - 호스트 소문자, 인증 파라미터 제거, 쿼리 파라미터 정렬
+     */
+    static String normalize(URI uri) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(uri.getScheme() != null ? uri.getScheme().toLowerCase() : "http").append("://");
+        sb.append(uri.getHost() != null ? uri.getHost().toLowerCase() : "");
+        if (uri.getPort() != -1) {
+            sb.append(':').append(uri.getPort());
+        }
+        sb.append(uri.getRawPath() != null ? uri.getRawPath() : "");
+
+        String query = normalizeQuery(uri.getRawQuery());
+        if (!query.isEmpty()) {
+            sb.append('?').append(query);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 쿼리 문자열 정규화 - 인증 파라미터 제거 후 정렬 (녹화/재생 키에서도 사용)
+     */
+    public static String normalizeQuery(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return "";
+        }
+        List<String> params = new ArrayList<>();
+        for (String param : rawQuery.split("&")) {
+            int eq = param.indexOf('=');
+            String name = eq < 0 ? param : param.substring(0, eq);
+            if (!param.isEmpty() && !CREDENTIAL_PARAMS.contains(name)) {
+                params.add(param);
+            }
+        }
+        Collections.sort(params);
+        return String.join("&", params);
+    }
+
+    static String cacheKey(URI uri) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(normalize(uri).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Path pathOf(String key) {
+        return root.resolve(key.substring(0, 2)).resolve(key + SUFFIX);
+    }
+
+    private ByteBuffer read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                throw new IOException("truncated cache file");
+            }
+            if (size >= MMAP_THRESHOLD) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // 끝까지 읽기
+            }
+            return buffer.flip();
+        }
+    }
+
+    private void touch(Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException ignored) {
+            // 접근 시각은 재시작 후 LRU 순서 복원용이라 실패해도 무방
+        }
+    }
+
+    private void forget(String key) {
+        synchronized (lru) {
+            Long size = lru.remove(key);
+            if (size != null) {
+                totalBytes -= size;
+            }
+        }
+        try {
+            Files.deleteIfExists(pathOf(key));
+        } catch (IOException ignored) {
+            // 다음 put 에서 덮어쓴다
+        }
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<String, Long>> it = lru.entrySet().iterator();
+        while (totalBytes > maxBytes && it.hasNext()) {
+            Map.Entry<String, Long> eldest = it.next();
+            try {
+                Files.deleteIfExists(pathOf(eldest.getKey()));
+            } catch (IOException e) {
+                log.debug("캐시 파일 삭제 실패 [{}]: {}", eldest.getKey(), e.getMessage());
+                continue;
+            }
+            totalBytes -= eldest.getValue();
+            it.remove();
+        }
+    }
+
+    /**
+     * 기존 캐시 파일로 LRU 색인 복원 (수정 시각 오래된 순)
+     */
+    private boolean loadIndex() {
+        try {
+            Files.createDirectories(root);
+            List<Path> files;
+            try (Stream<Path> walk = Files.walk(root, 2)) {
+                files = walk.filter(Files::isRegularFile).toList();
+            }
+            // 쓰다 중단된 임시 파일 정리
+            for (Path file : files) {
+                if (file.getFileName().toString().endsWith(".tmp")) {
+                    Files.deleteIfExists(file);
+                }
+            }
+            files = files.stream()
+                    .filter(p -> p.getFileName().toString().endsWith(SUFFIX))
+                    .sorted(Comparator.comparing(this::lastModified))
+                    .toList();
+            synchronized (lru) {
+                for (Path file : files) {
+                    String name = file.getFileName().toString();
+                    long size = Files.size(file);
+                    lru.put(name.substring(0, name.length() - SUFFIX.length()), size);
+                    totalBytes += size;
+                }
+                evictIfNeeded();
+            }
+            log.info("🗄️ 응답 캐시: {} ({}개, {} KB)", root, lru.size(), totalBytes / 1024);
+            return true;
+        } catch (IOException e) {
+            log.warn("⚠️ 응답 캐시 디렉토리 사용 불가, 캐시 비활성화: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+}
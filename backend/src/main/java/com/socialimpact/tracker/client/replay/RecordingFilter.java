@@ -0,0 +1,42 @@
+package com.socialimpact.tracker.client.replay;
+
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 실제 외부 API 응답을 RecordingStore 에 녹화하는 WebClient 필터 (upstream.record.enabled=true)
+ *
+ * 2xx 응답만 녹화한다 (오류/429 는 스텁 서버의 장애 주입으로 재현).
+ */
+public class RecordingFilter implements ExchangeFilterFunction {
+
+    private final RecordingStore store;
+
+    public RecordingFilter(RecordingStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return next.exchange(request).flatMap(response -> {
+            if (!response.statusCode().is2xxSuccessful()) {
+                return Mono.just(response);
+            }
+            return response.bodyToMono(byte[].class)
+                    .defaultIfEmpty(new byte[0])
+                    .map(body -> {
+                        store.save(request.url(), response.statusCode().value(),
+                                response.headers().asHttpHeaders().getFirst(HttpHeaders.CONTENT_TYPE), body);
+                        return response.mutate()
+                                .body(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body)))
+                                .build();
+                    });
+        });
+    }
+}
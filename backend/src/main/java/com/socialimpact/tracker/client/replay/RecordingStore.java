@@ -0,0 +1,114 @@
+package com.socialimpact.tracker.client.replay;
+
+import com.socialimpact.tracker.client.UpstreamResponseCache;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * 외부 API 녹화 파일 저장소
+ *
+ * 요청 하나 = {key}.body (응답 본문) + {key}.meta (상태코드, Content-Type, 원본 요청)
+ * key 는 호스트를 뺀 "경로?정렬된 쿼리" (인증 파라미터 제외) 의 SHA-256 이라
+ * 실제 서버에서 녹화한 응답을 localhost 스텁 서버에서 그대로 찾을 수 있다.
+ */
+@Slf4j
+public class RecordingStore {
+
+    private final Path dir;
+
+    public RecordingStore(Path dir) {
+        this.dir = dir.toAbsolutePath().normalize();
+    }
+
+    public record Recording(int status, String contentType, byte[] body) {
+    }
+
+    /**
+     * 응답 녹화 (같은 요청은 덮어쓴다)
+     */
+    public void save(URI uri, int status, String contentType, byte[] body) {
+        String request = requestOf(uri.getRawPath(), uri.getRawQuery());
+        String key = keyOf(request);
+        try {
+            Files.createDirectories(dir);
+
+            Properties meta = new Properties();
+            meta.setProperty("request", request);
+            meta.setProperty("status", String.valueOf(status));
+            if (contentType != null) {
+                meta.setProperty("contentType", contentType);
+            }
+
+            Path bodyTmp = Files.createTempFile(dir, key, ".tmp");
+            Files.write(bodyTmp, body != null ? body : new byte[0]);
+            Files.move(bodyTmp, dir.resolve(key + ".body"), StandardCopyOption.REPLACE_EXISTING);
+
+            Path metaTmp = Files.createTempFile(dir, key, ".tmp");
+            try (Writer writer = Files.newBufferedWriter(metaTmp, StandardCharsets.UTF_8)) {
+                meta.store(writer, null);
+            }
+            Files.move(metaTmp, dir.resolve(key + ".meta"), StandardCopyOption.REPLACE_EXISTING);
+
+            log.debug("🎙️ 녹화: {} ({})", request, status);
+        } catch (IOException e) {
+            log.warn("⚠️ 녹화 저장 실패 [{}]: {}", request, e.getMessage());
+        }
+    }
+
+    /**
+     * 녹화된 응답 찾기 (경로와 쿼리는 인코딩된 그대로)
+     */
+    public Optional<Recording> find(String rawPath, String rawQuery) {
+        String key = keyOf(requestOf(rawPath, rawQuery));
+        Path metaFile = dir.resolve(key + ".meta");
+        Path bodyFile = dir.resolve(key + ".body");
+        if (!Files.exists(metaFile) || !Files.exists(bodyFile)) {
+            return Optional.empty();
+        }
+
+        try (Reader reader = Files.newBufferedReader(metaFile, StandardCharsets.UTF_8)) {
+            Properties meta = new Properties();
+            meta.load(reader);
+            return Optional.of(new Recording(
+                    Integer.parseInt(meta.getProperty("status", "200")),
+                    meta.getProperty("contentType"),
+                    Files.readAllBytes(bodyFile)));
+        } catch (IOException | NumberFormatException e) {
+            log.warn("⚠️ 녹화 읽기 실패 [{}]: {}", key, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public Path getDir() {
+        return dir;
+    }
+
+    static String requestOf(String rawPath, String rawQuery) {
+        String path = rawPath == null || rawPath.isEmpty() ? "/" : rawPath;
+        String query = UpstreamResponseCache.normalizeQuery(rawQuery);
+        return query.isEmpty() ? path : path + "?" + query;
+    }
+
+    private static String keyOf(String request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(request.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
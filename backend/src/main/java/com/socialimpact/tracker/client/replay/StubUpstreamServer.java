@@ -0,0 +1,169 @@
+package com.socialimpact.tracker.client.replay;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 녹화된 응답을 재생하는 로컬 스텁 서버 (DART / 네이버 대체)
+ *
+ * opendart.base-url, naver.api.search-url 을 이 서버로 돌리면 실제 할당량 없이
+ * 수집기의 처리량, 감속(AIMD), 작업 재개를 시험할 수 있다.
+ * 지연 시간, 5xx 오류 비율, 429 비율(Retry-After 포함)을 설정으로 주입한다.
+ */
+@Slf4j
+public class StubUpstreamServer implements AutoCloseable {
+
+    @Data
+    public static class Faults {
+        private long latencyMs = 0;
+        private long latencyJitterMs = 0;
+        private double errorRate = 0.0;
+        private double throttleRate = 0.0;
+        private int retryAfterSeconds = 1;
+    }
+
+    private final RecordingStore store;
+    private final int port;
+    private final Faults faults;
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong replayed = new AtomicLong();
+    private final AtomicLong missing = new AtomicLong();
+    private final AtomicLong throttled = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+
+    public StubUpstreamServer(RecordingStore store, int port, Faults faults) {
+        this.store = store;
+        this.port = port;
+        this.faults = faults;
+    }
+
+    public synchronized void start() throws IOException {
+        if (server != null) {
+            return;
+        }
+        executor = Executors.newFixedThreadPool(16, runnable -> {
+            Thread thread = new Thread(runnable, "stub-upstream");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+        log.info("🧪 스텁 외부 API 서버 시작: {} (녹화: {}, 장애 주입: {})", getBaseUrl(), store.getDir(), faults);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+            log.info("🧪 스텁 외부 API 서버 종료: {}", getStats());
+        }
+    }
+
+    public int getPort() {
+        return server != null ? server.getAddress().getPort() : port;
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + getPort();
+    }
+
+    public long getThrottledCount() {
+        return throttled.get();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("requests", requests.get());
+        stats.put("replayed", replayed.get());
+        stats.put("missing", missing.get());
+        stats.put("throttled", throttled.get());
+        stats.put("errors", errors.get());
+        return stats;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            requests.incrementAndGet();
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+
+            long delay = faults.getLatencyMs()
+                    + (faults.getLatencyJitterMs() > 0 ? random.nextLong(faults.getLatencyJitterMs() + 1) : 0);
+            if (delay > 0) {
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+
+            if (random.nextDouble() < faults.getThrottleRate()) {
+                throttled.incrementAndGet();
+                exchange.getResponseHeaders().set("Retry-After", String.valueOf(faults.getRetryAfterSeconds()));
+                send(exchange, 429, "application/json",
+                        "{\"errorMessage\":\"Rate limit exceeded. (속도 제한을 초과했습니다.)\",\"errorCode\":\"012\"}");
+                return;
+            }
+
+            if (random.nextDouble() < faults.getErrorRate()) {
+                errors.incrementAndGet();
+                send(exchange, 500, "application/json", "{\"status\":\"900\",\"message\":\"stub injected error\"}");
+                return;
+            }
+
+            URI uri = exchange.getRequestURI();
+            Optional<RecordingStore.Recording> recording = store.find(uri.getRawPath(), uri.getRawQuery());
+            if (recording.isEmpty()) {
+                missing.incrementAndGet();
+                log.debug("🧪 녹화 없음: {}", uri);
+                send(exchange, 404, "application/json", "{\"status\":\"404\",\"message\":\"no recording\"}");
+                return;
+            }
+
+            replayed.incrementAndGet();
+            RecordingStore.Recording found = recording.get();
+            send(exchange, found.status(), found.contentType(), found.body());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void send(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        send(exchange, status, contentType, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        if (contentType != null) {
+            exchange.getResponseHeaders().set("Content-Type", contentType);
+        }
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+}
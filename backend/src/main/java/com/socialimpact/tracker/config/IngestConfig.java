@@ -0,0 +1,57 @@
+package com.socialimpact.tracker.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableScheduling
+public class IngestConfig {
+
+    /**
+     * 수집 작업 전용 스레드 풀 (API 요청 처리 스레드와 분리)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor ingestExecutor(@Value("${ingest.parallelism:2}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("ingest-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 작업 항목 동시 처리용 스레드 풀 (itemConcurrency 가 2 이상인 작업, 작업별 동시 실행 수는 핸들러가 정한다)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor ingestItemExecutor(@Value("${ingest.item-parallelism:8}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("ingest-item-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 업로드 파일 파싱 전용 스레드 풀 (CSV 파일 여러 개를 동시에 읽는다)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor fileParseExecutor(@Value("${ingest.csv.parallelism:4}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("file-parse-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
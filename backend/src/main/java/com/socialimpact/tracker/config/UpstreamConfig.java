@@ -0,0 +1,212 @@
+package com.socialimpact.tracker.config;
+
+import com.socialimpact.tracker.client.AdaptiveRateLimiter;
+import com.socialimpact.tracker.client.DailyQuota;
+import com.socialimpact.tracker.client.replay.RecordingFilter;
+import com.socialimpact.tracker.client.replay.RecordingStore;
+import com.socialimpact.tracker.client.replay.StubUpstreamServer;
+import com.socialimpact.tracker.service.IngestJobHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.util.retry.Retry;
+
+import java.nio.file.Paths;
+import java.time.Duration;
+
+@Slf4j
+@Configuration
+public class UpstreamConfig {
+
+    private static final int MAX_IN_MEMORY_SIZE = 16 * 1024 * 1024; // corpCode.xml ZIP
+    private static final int MAX_CONNECTIONS = 20;
+
+    @Value("${upstream.record.enabled:false}")
+    private boolean recordResponses;
+
+    /**
+     * 외부 API 녹화 저장소 (녹화 모드와 스텁 서버가 공유)
+     */
+    @Bean
+    public RecordingStore recordingStore(@Value("${upstream.recordings.dir:./data/recordings}") String dir) {
+        return new RecordingStore(Paths.get(dir));
+    }
+
+    /**
+     * 녹화 응답 재생 스텁 서버 (upstream.stub.enabled=true, 보통 stub 프로필에서 사용)
+     */
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(name = "upstream.stub.enabled", havingValue = "true")
+    public StubUpstreamServer stubUpstreamServer(
+            RecordingStore recordingStore,
+            @Value("${upstream.stub.port:18089}") int port,
+            @Value("${upstream.stub.latency-ms:0}") long latencyMs,
+            @Value("${upstream.stub.latency-jitter-ms:0}") long latencyJitterMs,
+            @Value("${upstream.stub.error-rate:0}") double errorRate,
+            @Value("${upstream.stub.throttle-rate:0}") double throttleRate,
+            @Value("${upstream.stub.retry-after-seconds:1}") int retryAfterSeconds) {
+        StubUpstreamServer.Faults faults = new StubUpstreamServer.Faults();
+        faults.setLatencyMs(latencyMs);
+        faults.setLatencyJitterMs(latencyJitterMs);
+        faults.setErrorRate(errorRate);
+        faults.setThrottleRate(throttleRate);
+        faults.setRetryAfterSeconds(retryAfterSeconds);
+        return new StubUpstreamServer(recordingStore, port, faults);
+    }
+
+    /**
+     * OpenDART 전용 WebClient (커넥션 풀/타임아웃/재시도 설정 공유, 빈은 한 번만 생성)
+     */
+    @Bean
+    public WebClient dartWebClient(
+            RecordingStore recordingStore,
+            @Value("${opendart.base-url}") String baseUrl,
+            @Value("${opendart.http.connect-timeout-ms:10000}") int connectTimeoutMs,
+            @Value("${opendart.http.read-timeout-ms:30000}") int readTimeoutMs,
+            @Value("${opendart.http.retry.max-attempts:3}") int maxAttempts,
+            @Value("${opendart.http.retry.backoff-ms:1000}") long backoffMs) {
+        return upstreamClient("opendart", recordingStore, connectTimeoutMs, readTimeoutMs, maxAttempts, backoffMs)
+                .baseUrl(baseUrl)
+                .build();
+    }
+
+    /**
+     * 네이버 검색 API 전용 WebClient (인증 헤더 고정, 재시도 포함 실제 요청마다 일일 한도 차감)
+     */
+    @Bean
+    public WebClient naverWebClient(
+            RecordingStore recordingStore,
+            DailyQuota naverDailyQuota,
+            @Value("${naver.api.search-url}") String searchUrl,
+            @Value("${naver.api.client-id}") String clientId,
+            @Value("${naver.api.client-secret}") String clientSecret,
+            @Value("${naver.api.http.connect-timeout-ms:5000}") int connectTimeoutMs,
+            @Value("${naver.api.http.read-timeout-ms:10000}") int readTimeoutMs,
+            @Value("${naver.api.http.retry.max-attempts:3}") int maxAttempts,
+            @Value("${naver.api.http.retry.backoff-ms:500}") long backoffMs) {
+        return upstreamClient("naver", recordingStore, connectTimeoutMs, readTimeoutMs, maxAttempts, backoffMs)
+                .baseUrl(searchUrl)
+                .defaultHeader("X-Naver-Client-Id", clientId)
+                .defaultHeader("X-Naver-Client-Secret", clientSecret)
+                .filter(chargeQuota(naverDailyQuota))
+                .build();
+    }
+
+    /**
+     * 외부 API 별 커넥션 풀 + keep-alive + gzip + 타임아웃 + 지터 재시도
+     *
+     * 풀 메트릭: reactor.netty.connection.provider.* (tag name = upstream 이름)
+     * upstream.record.enabled=true 면 정상 응답을 RecordingStore 에 녹화한다.
+     */
+    private WebClient.Builder upstreamClient(String name, RecordingStore recordingStore, int connectTimeoutMs,
+                                             int readTimeoutMs, int maxAttempts, long backoffMs) {
+        ConnectionProvider provider = ConnectionProvider.builder(name)
+                .maxConnections(MAX_CONNECTIONS)
+                .pendingAcquireTimeout(Duration.ofMillis(connectTimeoutMs + readTimeoutMs))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .maxLifeTime(Duration.ofMinutes(5))
+                .evictInBackground(Duration.ofSeconds(60))
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                .compress(true)
+                .responseTimeout(Duration.ofMillis(readTimeoutMs));
+
+        ExchangeStrategies strategies = ExchangeStrategies.builder()
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(MAX_IN_MEMORY_SIZE))
+                .build();
+
+        WebClient.Builder builder = WebClient.builder()
+                .exchangeStrategies(strategies)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(retryTransientErrors(name, maxAttempts, backoffMs));
+        if (recordResponses) {
+            log.info("🎙️ [{}] 응답 녹화 모드: {}", name, recordingStore.getDir());
+            builder.filter(new RecordingFilter(recordingStore));
+        }
+        return builder;
+    }
+
+    /**
+     * 연결 오류와 5xx 만 지터 백오프로 재시도 (429 는 AdaptiveRateLimiter 가 처리)
+     */
+    private ExchangeFilterFunction retryTransientErrors(String name, int maxAttempts, long backoffMs) {
+        return (request, next) -> next.exchange(request)
+                .flatMap(response -> response.statusCode().is5xxServerError()
+                        ? response.createException().flatMap(Mono::<ClientResponse>error)
+                        : Mono.just(response))
+                .retryWhen(Retry.backoff(Math.max(0, maxAttempts - 1), Duration.ofMillis(backoffMs))
+                        .jitter(0.5)
+                        .filter(e -> e instanceof WebClientRequestException
+                                || (e instanceof WebClientResponseException wre
+                                && wre.getStatusCode().is5xxServerError()))
+                        .doBeforeRetry(signal -> log.debug("🔁 [{}] 재시도 {}회: {}",
+                                name, signal.totalRetries() + 1, signal.failure().getMessage()))
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    /**
+     * 요청을 보낼 때마다 일일 한도 차감 - 재시도 필터 안쪽에 두어 재시도도 한 번씩 센다
+     * (한도를 다 쓰면 QuotaExceededException, 재시도 대상 아님)
+     */
+    private static ExchangeFilterFunction chargeQuota(DailyQuota quota) {
+        return (request, next) -> Mono.defer(() -> {
+            quota.acquire();
+            return next.exchange(request);
+        });
+    }
+
+    /**
+     * OpenDART 호출 속도 제어 (한도 초과는 HTTP 200 + status 020 으로 온다)
+     */
+    @Bean
+    public AdaptiveRateLimiter dartRateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${opendart.rate-limit.initial-per-second:3}") double initialRate,
+            @Value("${opendart.rate-limit.max-per-second:10}") double maxRate,
+            @Value("${opendart.rate-limit.max-consecutive-throttles:5}") int maxConsecutiveThrottles) {
+        return new AdaptiveRateLimiter("opendart", initialRate, 0.2, maxRate, 0.1,
+                maxConsecutiveThrottles, meterRegistry);
+    }
+
+    /**
+     * 네이버 검색 API 호출 속도 제어 (초기값은 기존 호출 간격 설정에서)
+     */
+    @Bean
+    public AdaptiveRateLimiter naverRateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${positive-news.api-call-interval-ms:300}") long intervalMs,
+            @Value("${naver.api.rate-limit.max-per-second:10}") double maxRate,
+            @Value("${naver.api.rate-limit.max-consecutive-throttles:5}") int maxConsecutiveThrottles) {
+        return new AdaptiveRateLimiter("naver", 1000.0 / Math.max(1, intervalMs), 0.2, maxRate, 0.1,
+                maxConsecutiveThrottles, meterRegistry);
+    }
+
+    /**
+     * 네이버 검색 API 일일 호출 한도 (KST 자정 초기화, 모든 수집 스레드 공용)
+     */
+    @Bean
+    public DailyQuota naverDailyQuota(
+            MeterRegistry meterRegistry,
+            @Value("${naver.api.daily-quota:25000}") int dailyQuota) {
+        return new DailyQuota("naver", dailyQuota, IngestJobHandler.QUOTA_ZONE, meterRegistry);
+    }
+}
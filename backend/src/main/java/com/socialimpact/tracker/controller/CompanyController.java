@@ -1,13 +1,16 @@
 package com.socialimpact.tracker.controller;
 
+import com.socialimpact.tracker.entity.IngestJob;
 import com.socialimpact.tracker.service.DartCollectorService;
+import com.socialimpact.tracker.service.DartFilingWatcherService;
+import com.socialimpact.tracker.service.IngestJobService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RestController
@@ -16,7 +19,8 @@ import java.util.concurrent.CompletableFuture;
 @CrossOrigin(origins = "*")
 public class CompanyController {
 
-    private final DartCollectorService dartCollectorService;
+    private final IngestJobService ingestJobService;
+    private final DartFilingWatcherService dartFilingWatcherService;
 
     /**
      * POST /api/companies/collect
@@ -25,28 +29,21 @@ public class CompanyController {
     @PostMapping("/collect")
     public ResponseEntity<Map<String, Object>> collectCompanies() {
 
-        if (dartCollectorService.isCollecting()) {
+        if (dartFilingWatcherService.isCollecting()) {
             return ResponseEntity.badRequest().body(Map.of(
-                    "message", "이미 수집 작업이 진행 중입니다.",
+                    "message", "이미 수집 작업(전체 또는 공시 증분)이 진행 중입니다.",
                     "status", "already_running"
             ));
         }
 
         log.info("🚀 상장사 목록 수집 시작");
 
-        // 비동기 실행
-        CompletableFuture.runAsync(() -> {
-            try {
-                dartCollectorService.collectAllListedCompanies();
-                log.info("✅ 상장사 수집 완료!");
-            } catch (Exception e) {
-                log.error("❌ 수집 실패", e);
-            }
-        });
+        IngestJob job = ingestJobService.startOrResume(DartCollectorService.JOB_TYPE, Map.of());
 
         return ResponseEntity.ok(Map.of(
                 "message", "상장사 수집을 시작했습니다.",
-                "status", "started"
+                "status", "started",
+                "jobId", job.getId()
         ));
     }
 
@@ -56,14 +53,11 @@ public class CompanyController {
      */
     @GetMapping("/collect/status")
     public ResponseEntity<Map<String, Object>> getCollectionStatus() {
-        Map<String, Object> status = Map.of(
-                "isCollecting", dartCollectorService.isCollecting(),
-                "totalCompanies", dartCollectorService.getTotalCompanies().get(),
-                "processedCompanies", dartCollectorService.getProcessedCompanies().get(),
-                "successCount", dartCollectorService.getSuccessCount().get(),
-                "failureCount", dartCollectorService.getFailureCount().get(),
-                "progressPercentage", dartCollectorService.getProgressPercentage()
-        );
+        Map<String, Object> status = new HashMap<>();
+        status.put("isCollecting", ingestJobService.isRunning(DartCollectorService.JOB_TYPE));
+
+        ingestJobService.findLatest(DartCollectorService.JOB_TYPE)
+                .ifPresent(job -> status.putAll(ingestJobService.getProgress(job)));
 
         return ResponseEntity.ok(status);
     }
@@ -1,22 +1,31 @@
 package com.socialimpact.tracker.controller;
 
 import com.socialimpact.tracker.entity.Donation;
-import com.socialimpact.tracker.entity.Organization;
+import com.socialimpact.tracker.entity.IngestJob;
 import com.socialimpact.tracker.repository.DonationRepository;
-import com.socialimpact.tracker.repository.OrganizationRepository;
 import com.socialimpact.tracker.service.DartCollectorService;
+import com.socialimpact.tracker.service.DartFilingWatcherService;
 import com.socialimpact.tracker.service.DonationCollectorService;
+import com.socialimpact.tracker.service.DonationImportService;
+import com.socialimpact.tracker.service.ImportAbortedException;
+import com.socialimpact.tracker.service.IngestFingerprintService;
+import com.socialimpact.tracker.service.IngestJobService;
+import com.socialimpact.tracker.service.QuotaExceededException;
+import com.socialimpact.tracker.service.UploadSpool;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.math.BigDecimal;
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @RestController
@@ -25,18 +34,23 @@ import java.util.Map;
 @CrossOrigin(origins = "*")
 public class DonationController {
 
-    private final DonationCollectorService donationCollectorService;
     private final DonationRepository donationRepository;
     private final DartCollectorService dartCollectorService;
-    private final OrganizationRepository organizationRepository;
+    private final IngestJobService ingestJobService;
+    private final DartFilingWatcherService dartFilingWatcherService;
+    private final DonationImportService donationImportService;
+    private final UploadSpool uploadSpool;
+    private final IngestFingerprintService ingestFingerprintService;
 
     /**
      * POST /api/donations/upload
      * 기부금 CSV 파일 업로드 (여러 파일 동시 업로드 가능)
+     * 이미 반영한 파일/행은 건너뛴다 (force=true 면 전부 다시 반영)
      */
     @PostMapping("/upload")
     public ResponseEntity<Map<String, Object>> uploadDonationFiles(
-            @RequestParam("files") List<MultipartFile> files) {
+            @RequestParam("files") List<MultipartFile> files,
+            @RequestParam(defaultValue = "false") boolean force) {
 
         log.info("📤 Received {} donation CSV files", files.size());
 
@@ -57,10 +71,21 @@ public class DonationController {
         }
 
         try {
-            Map<String, Object> result = donationCollectorService.processDonationFiles(files);
-            return ResponseEntity.ok(result);
+            // 디스크에 보관하고 바로 응답 - 파싱은 수집 작업 스레드에서
+            String spoolId = uploadSpool.spool(files);
+            IngestJob job = ingestJobService.start(DonationCollectorService.JOB_TYPE, Map.of(
+                    "spoolId", spoolId,
+                    "files", String.valueOf(files.size()),
+                    "force", String.valueOf(force)
+            ));
+
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of(
+                    "status", "accepted",
+                    "jobId", job.getId(),
+                    "progressUrl", "/api/ingest/jobs/" + job.getId()
+            ));
         } catch (Exception e) {
-            log.error("❌ Error processing donation files", e);
+            log.error("❌ Error spooling donation files", e);
             return ResponseEntity.internalServerError()
                     .body(Map.of("error", e.getMessage()));
         }
@@ -129,6 +154,7 @@ public class DonationController {
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteDonation(@PathVariable Long id) {
         donationRepository.deleteById(id);
+        ingestFingerprintService.forget(DonationCollectorService.JOB_TYPE);
         return ResponseEntity.noContent().build();
     }
 
@@ -141,6 +167,7 @@ public class DonationController {
         List<Donation> donations = donationRepository.findByYear(year);
         int count = donations.size();
         donationRepository.deleteAll(donations);
+        ingestFingerprintService.forget(DonationCollectorService.JOB_TYPE);
 
         return ResponseEntity.ok(Map.of(
                 "deletedCount", count,
@@ -157,86 +184,130 @@ public class DonationController {
             @RequestParam String corpCode) {
         log.info("🧪 단일 회사 테스트: {}", corpCode);
 
-        dartCollectorService.collectDonationData(corpCode, 0);
+        try {
+            int savedYears = dartCollectorService.collectDonationData(corpCode);
 
-        return ResponseEntity.ok(Map.of(
-                "status", "completed",
-                "corpCode", corpCode,
-                "successCount", dartCollectorService.getSuccessCount().get(),
-                "failureCount", dartCollectorService.getFailureCount().get()
-        ));
+            return ResponseEntity.ok(Map.of(
+                    "status", "completed",
+                    "corpCode", corpCode,
+                    "savedYears", savedYears
+            ));
+        } catch (QuotaExceededException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(Map.of(
+                    "status", "throttled",
+                    "corpCode", corpCode,
+                    "message", e.getMessage()
+            ));
+        }
     }
 
     /**
-     * ✨ POST /api/donations/collect-all
-     * 전체 상장사 기부금 수집 (체크포인트 지원)
+     * ✨ POST /api/donations/collect-all?force=false
+     * 전체 상장사 기부금 수집 (같은 조건의 미완료 작업이 있으면 이어서, 조건이 다르면 취소 후 새로 시작)
+     * 이미 수집된 회사-연도는 건너뛰며, force=true 면 전체 재수집
      */
     @PostMapping("/collect-all")
-    public ResponseEntity<Map<String, String>> collectAllDonations() {
+    public ResponseEntity<Map<String, Object>> collectAllDonations(
+            @RequestParam(defaultValue = "false") boolean force) {
 
-        if (dartCollectorService.isCollecting()) {
+        if (dartFilingWatcherService.isCollecting()) {
             return ResponseEntity.badRequest().body(Map.of(
                     "status", "already_running",
-                    "message", "이미 수집 작업이 진행 중입니다."
+                    "message", "이미 수집 작업(전체 또는 공시 증분)이 진행 중입니다."
             ));
         }
 
-        // 비동기 실행
-        new Thread(() -> {
-            log.info("🚀 기부금 수집 스레드 시작");
-            dartCollectorService.collectAllListedCompanies();
-        }).start();
+        Map<String, String> params = Map.of("force", String.valueOf(force));
+
+        // 같은 조건의 미완료 작업(일시정지, 한도 초과)이 있으면 이어서, 조건이 다르면 취소 후 새로 시작
+        Optional<IngestJob> unfinished = ingestJobService.findUnfinished(DartCollectorService.JOB_TYPE);
+        IngestJob job;
+        if (unfinished.isPresent() && isSameForce(unfinished.get(), force)) {
+            job = ingestJobService.resume(unfinished.get().getId());
+        } else {
+            unfinished.ifPresent(previous -> ingestJobService.cancel(previous.getId()));
+            job = ingestJobService.start(DartCollectorService.JOB_TYPE, params);
+        }
 
         return ResponseEntity.ok(Map.of(
                 "status", "started",
-                "message", "백그라운드에서 수집을 시작했습니다. 체크포인트가 자동으로 저장됩니다."
+                "jobId", job.getId(),
+                "message", "백그라운드에서 수집을 시작했습니다. 진행 상황은 작업 항목 단위로 DB에 저장됩니다."
         ));
     }
 
+    private boolean isSameForce(IngestJob job, boolean force) {
+        return String.valueOf(force).equals(ingestJobService.getParams(job).getOrDefault("force", "false"));
+    }
+
+    /**
+     * ✨ POST /api/donations/collect-delta
+     * 마지막 확인 이후 정기공시를 낸 회사만 수집 (list.json 기반)
+     */
+    @PostMapping("/collect-delta")
+    public ResponseEntity<Map<String, Object>> collectDelta() {
+        if (dartFilingWatcherService.isCollecting()) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "status", "already_running",
+                    "message", "이미 수집 작업(전체 또는 공시 증분)이 진행 중입니다."
+            ));
+        }
+
+        Map<String, Object> result = new HashMap<>();
+
+        Optional<IngestJob> job = dartFilingWatcherService.refresh();
+        result.put("status", job.isPresent() ? "started" : "no_new_filings");
+        job.ifPresent(j -> result.put("jobId", j.getId()));
+        dartFilingWatcherService.loadWatermark().ifPresent(w -> result.put("watermark", w.toString()));
+
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * ✨ POST /api/donations/collect-resume
-     * 체크포인트에서 수집 재개
+     * 일시정지되었거나 한도 초과로 미뤄진 수집 작업 재개
      */
     @PostMapping("/collect-resume")
-    public ResponseEntity<Map<String, String>> resumeCollection() {
+    public ResponseEntity<Map<String, Object>> resumeCollection() {
 
-        if (dartCollectorService.isCollecting()) {
+        if (ingestJobService.isRunning(DartCollectorService.JOB_TYPE)) {
             return ResponseEntity.badRequest().body(Map.of(
                     "status", "already_running",
                     "message", "이미 수집 작업이 진행 중입니다."
             ));
         }
 
-        // 비동기 실행
-        new Thread(() -> {
-            log.info("🔄 체크포인트에서 수집 재개");
-            dartCollectorService.collectAllListedCompanies();
-        }).start();
-
-        return ResponseEntity.ok(Map.of(
-                "status", "resumed",
-                "message", "체크포인트에서 수집을 재개했습니다."
-        ));
+        return ingestJobService.findUnfinished(DartCollectorService.JOB_TYPE)
+                .map(job -> ResponseEntity.ok(Map.<String, Object>of(
+                        "status", "resumed",
+                        "jobId", ingestJobService.resume(job.getId()).getId(),
+                        "message", "중단된 수집 작업을 재개했습니다."
+                )))
+                .orElseGet(() -> ResponseEntity.badRequest().body(Map.of(
+                        "status", "no_unfinished_job",
+                        "message", "재개할 수집 작업이 없습니다."
+                )));
     }
 
     /**
      * ✨ GET /api/donations/collect-progress
-     * 수집 진행 상태 조회
+     * 수집 진행 상태 조회 (가장 최근 작업)
      */
     @GetMapping("/collect-progress")
     public ResponseEntity<Map<String, Object>> getCollectProgress() {
         Map<String, Object> progress = new HashMap<>();
 
-        progress.put("isCollecting", dartCollectorService.isCollecting());
-        progress.put("totalCompanies", dartCollectorService.getTotalCompanies().get());
-        progress.put("processedCompanies", dartCollectorService.getProcessedCompanies().get());
-        progress.put("successCount", dartCollectorService.getSuccessCount().get());
-        progress.put("failureCount", dartCollectorService.getFailureCount().get());
-        progress.put("progressPercentage", dartCollectorService.getProgressPercentage());
-        progress.put("estimatedTimeRemaining", dartCollectorService.getEstimatedTimeRemaining());
+        Optional<IngestJob> latest = ingestJobService.findLatest(DartCollectorService.JOB_TYPE);
+        if (latest.isEmpty()) {
+            progress.put("isCollecting", false);
+            return ResponseEntity.ok(progress);
+        }
+
+        progress.putAll(ingestJobService.getProgress(latest.get()));
+        progress.put("isCollecting", latest.get().getStatus() == IngestJob.JobStatus.RUNNING);
 
         // 진행 바 생성
-        double percentage = dartCollectorService.getProgressPercentage();
+        double percentage = (double) progress.get("progressPercentage");
         int barLength = 50;
         int filled = (int) (barLength * percentage / 100);
         StringBuilder bar = new StringBuilder();
@@ -251,86 +322,21 @@ public class DonationController {
      * POST /api/donations/batch-import
      * 일괄 임포트
      */
-    @PostMapping("/batch-import")
-    public ResponseEntity<Map<String, Object>> batchImportDonations(
-            @RequestBody List<Map<String, Object>> donationList) {
-
-        int savedCount = 0;
-        int failedCount = 0;
-        List<String> errors = new ArrayList<>();
-
-        log.info("📥 일괄 임포트 시작: {}건", donationList.size());
-
-        for (Map<String, Object> item : donationList) {
-            try {
-                String orgName = (String) item.get("organizationName");
-                String stockCode = (String) item.get("stockCode");
-                Integer year = (Integer) item.get("year");
-                Integer quarter = (Integer) item.get("quarter");
-                String reportType = (String) item.get("reportType");
-                String dataSource = (String) item.get("dataSource");
-                String verificationStatus = (String) item.get("verificationStatus");
-                String currency = (String) item.get("currency");
-
-                // amount 처리
-                Object amountObj = item.get("donationAmount");
-                Long amountLong;
-                if (amountObj instanceof Integer) {
-                    amountLong = ((Integer) amountObj).longValue();
-                } else if (amountObj instanceof Long) {
-                    amountLong = (Long) amountObj;
-                } else {
-                    amountLong = Long.parseLong(amountObj.toString());
-                }
-                BigDecimal amount = new BigDecimal(amountLong);
-
-                // Organization 찾기 또는 생성
-                Organization org = organizationRepository.findAll().stream()
-                        .filter(o -> o.getName().equals(orgName))
-                        .findFirst()
-                        .orElseGet(() -> {
-                            Organization newOrg = new Organization();
-                            newOrg.setName(orgName);
-                            newOrg.setType("상장사");
-                            Organization saved = organizationRepository.save(newOrg);
-                            log.info("  🏢 새 조직 생성: {}", orgName);
-                            return saved;
-                        });
-
-                // Donation 중복 체크 및 저장
-                Donation donation = donationRepository
-                        .findByOrganization_IdAndYearAndQuarter(
-                                org.getId(), year, quarter)
-                        .orElse(new Donation());
-
-                donation.setOrganization(org);
-                donation.setOrganizationName(orgName);
-                donation.setStockCode(stockCode);
-                donation.setYear(year);
-                donation.setQuarter(quarter);
-                donation.setDonationAmount(amount);
-                donation.setReportType(reportType);
-                donation.setDataSource(dataSource != null ? dataSource : "TXT_FILE");
-                donation.setVerificationStatus(verificationStatus != null ? verificationStatus : "자동수집");
-                donation.setCurrency(currency != null ? currency : "KRW");
-
-                donationRepository.save(donation);
-                savedCount++;
-
-            } catch (Exception e) {
-                failedCount++;
-                errors.add(String.format("항목 처리 실패: %s", e.getMessage()));
-                log.error("❌ 임포트 실패", e);
-            }
+    @PostMapping(value = "/batch-import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Map<String, Object>> batchImportDonations(HttpServletRequest request) {
+        try {
+            return ResponseEntity.ok(donationImportService.importJson(request.getInputStream()));
+        } catch (ImportAbortedException e) {
+            // 중단 전에 기록된 청크는 남아 있으므로 몇 건이 반영됐는지 함께 알려 준다
+            log.warn("⚠️ 임포트 중단 (기록 완료 {}건): {}", e.getSavedCount(), e.getMessage());
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "JSON 본문을 읽을 수 없습니다: " + e.getMessage(),
+                    "savedCount", e.getSavedCount()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (IOException e) {
+            log.error("❌ 임포트 본문 읽기 실패", e);
+            return ResponseEntity.badRequest().body(Map.of("error", "JSON 본문을 읽을 수 없습니다: " + e.getMessage()));
         }
-
-        log.info("✅ 임포트 완료: 성공 {}건, 실패 {}건", savedCount, failedCount);
-
-        return ResponseEntity.ok(Map.of(
-                "savedCount", savedCount,
-                "failedCount", failedCount,
-                "errors", errors,
-                "total", donationList.size()
-        ));
     }
 }
\ No newline at end of file
@@ -1,12 +1,17 @@
 package com.socialimpact.tracker.controller;
 
 import com.socialimpact.tracker.entity.Emission;
+import com.socialimpact.tracker.entity.IngestJob;
 import com.socialimpact.tracker.entity.Organization;
 import com.socialimpact.tracker.repository.EmissionRepository;
 import com.socialimpact.tracker.repository.OrganizationRepository;
 import com.socialimpact.tracker.service.GirCollectorService;
+import com.socialimpact.tracker.service.IngestFingerprintService;
+import com.socialimpact.tracker.service.IngestJobService;
+import com.socialimpact.tracker.service.UploadSpool;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -25,14 +30,19 @@ public class GirController {
     private final GirCollectorService girCollectorService;
     private final EmissionRepository emissionRepository;
     private final OrganizationRepository organizationRepository;
+    private final IngestJobService ingestJobService;
+    private final UploadSpool uploadSpool;
+    private final IngestFingerprintService ingestFingerprintService;
 
     /**
      * POST /api/emissions/upload
      * GIR 엑셀 파일 업로드 및 DB 저장
+     * 지금 저장된 값과 같은 회사-연도 합계는 다시 쓰지 않는다 (force=true 면 전부 다시 반영)
      */
     @PostMapping("/upload")
     public ResponseEntity<Map<String, Object>> uploadGirExcel(
-            @RequestParam("file") MultipartFile file) {
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(defaultValue = "false") boolean force) {
 
         log.info("📤 Received GIR Excel file: {}", file.getOriginalFilename());
 
@@ -48,10 +58,20 @@ public class GirController {
         }
 
         try {
-            Map<String, Object> result = girCollectorService.processGirExcelFile(file);
-            return ResponseEntity.ok(result);
+            // 디스크에 보관하고 바로 응답 - 파싱은 수집 작업 스레드에서
+            String spoolId = uploadSpool.spool(List.of(file));
+            IngestJob job = ingestJobService.start(GirCollectorService.JOB_TYPE, Map.of(
+                    "spoolId", spoolId,
+                    "force", String.valueOf(force)
+            ));
+
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of(
+                    "status", "accepted",
+                    "jobId", job.getId(),
+                    "progressUrl", "/api/ingest/jobs/" + job.getId()
+            ));
         } catch (Exception e) {
-            log.error("❌ Error processing GIR Excel", e);
+            log.error("❌ Error spooling GIR Excel", e);
             return ResponseEntity.internalServerError()
                     .body(Map.of("error", e.getMessage()));
         }
@@ -161,7 +181,9 @@ public class GirController {
     @DeleteMapping("/clear")
     public ResponseEntity<String> clearAllEmissions() {
         long count = emissionRepository.count();
-        emissionRepository.deleteAll();
+        emissionRepository.deleteAllInBatch();
+        girCollectorService.invalidateMatchingStatistics();
+        ingestFingerprintService.forget(GirCollectorService.JOB_TYPE);
         log.info("🗑️  Deleted {} emission records", count);
         return ResponseEntity.ok("Deleted " + count + " records");
     }
@@ -0,0 +1,92 @@
+package com.socialimpact.tracker.controller;
+
+import com.socialimpact.tracker.entity.IngestJob;
+import com.socialimpact.tracker.entity.IngestWorkItem;
+import com.socialimpact.tracker.service.IngestJobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/ingest/jobs")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class IngestJobController {
+
+    private final IngestJobService ingestJobService;
+
+    /**
+     * GET /api/ingest/jobs
+     * 최근 수집 작업 목록
+     */
+    @GetMapping
+    public ResponseEntity<List<Map<String, Object>>> getJobs() {
+        List<Map<String, Object>> jobs = ingestJobService.getRecentJobs().stream()
+                .map(ingestJobService::getProgress)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(jobs);
+    }
+
+    /**
+     * GET /api/ingest/jobs/{id}
+     * 작업 진행 상황
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<Map<String, Object>> getJob(@PathVariable Long id) {
+        return handle(id, ingestJobService::getJob);
+    }
+
+    /**
+     * GET /api/ingest/jobs/{id}/items?status=FAILED
+     * 상태별 작업 항목 조회
+     */
+    @GetMapping("/{id}/items")
+    public ResponseEntity<List<IngestWorkItem>> getItems(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "FAILED") IngestWorkItem.ItemStatus status) {
+        return ResponseEntity.ok(ingestJobService.getItems(id, status));
+    }
+
+    /**
+     * POST /api/ingest/jobs/{id}/pause
+     */
+    @PostMapping("/{id}/pause")
+    public ResponseEntity<Map<String, Object>> pauseJob(@PathVariable Long id) {
+        return handle(id, ingestJobService::pause);
+    }
+
+    /**
+     * POST /api/ingest/jobs/{id}/resume
+     */
+    @PostMapping("/{id}/resume")
+    public ResponseEntity<Map<String, Object>> resumeJob(@PathVariable Long id) {
+        return handle(id, ingestJobService::resume);
+    }
+
+    /**
+     * POST /api/ingest/jobs/{id}/cancel
+     */
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<Map<String, Object>> cancelJob(@PathVariable Long id) {
+        return handle(id, ingestJobService::cancel);
+    }
+
+    private ResponseEntity<Map<String, Object>> handle(Long id, Function<Long, IngestJob> action) {
+        try {
+            IngestJob job = action.apply(id);
+            return ResponseEntity.ok(ingestJobService.getProgress(job));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.socialimpact.tracker.controller;
 
+import com.socialimpact.tracker.entity.IngestJob;
 import com.socialimpact.tracker.entity.PositiveNews;
 import com.socialimpact.tracker.repository.PositiveNewsRepository;
+import com.socialimpact.tracker.service.IngestJobService;
+import com.socialimpact.tracker.service.NewsClassificationRules;
+import com.socialimpact.tracker.service.NewsDedupFilter;
 import com.socialimpact.tracker.service.PositiveNewsCollectorService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,9 +15,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
+import java.util.Optional;
 
 @Slf4j
 @RestController
@@ -24,6 +29,9 @@ public class PositiveNewsController {
 
     private final PositiveNewsRepository positiveNewsRepository;
     private final PositiveNewsCollectorService collectorService;
+    private final IngestJobService ingestJobService;
+    private final NewsClassificationRules newsRules;
+    private final NewsDedupFilter newsDedupFilter;
 
     /**
      * POST /api/positive-news/collect
@@ -38,28 +46,33 @@ public class PositiveNewsController {
             @RequestParam(defaultValue = "false") boolean clearBefore) {  // ← false로 변경!
 
         // 현재 수집 중인지 확인
-        Map<String, Object> currentStatus = collectorService.getCollectionStatus();
-        if ((Boolean) currentStatus.get("isCollecting")) {
+        if (ingestJobService.isRunning(PositiveNewsCollectorService.JOB_TYPE)) {
             return ResponseEntity.badRequest().body(Map.of(
                     "message", "이미 수집 작업이 진행 중입니다.",
-                    "status", "already_running",
-                    "currentProgress", currentStatus.get("progress")
+                    "status", "already_running"
             ));
         }
 
         log.info("🚀 긍정 뉴스 수집 요청 ({} - {}) | DB 초기화: {}", fromYear, toYear, clearBefore);
 
-        // 비동기 실행
-        CompletableFuture.runAsync(() -> {
-            try {
-                collectorService.collectAllPositiveNews(fromYear, toYear, clearBefore);
-                log.info("✅ 긍정 뉴스 수집 완료!");
-            } catch (Exception e) {
-                log.error("❌ 수집 작업 실패", e);
-            }
-        });
+        Map<String, String> params = Map.of(
+                "fromYear", String.valueOf(fromYear),
+                "toYear", String.valueOf(toYear),
+                "clearBefore", String.valueOf(clearBefore)
+        );
+
+        // 같은 기간의 미완료 작업(일시정지, 한도 초과)이 있으면 이어서, 조건이 다르면 취소 후 새로 시작
+        Optional<IngestJob> unfinished = ingestJobService.findUnfinished(PositiveNewsCollectorService.JOB_TYPE);
+        IngestJob job;
+        if (unfinished.isPresent() && !clearBefore && isSameRange(unfinished.get(), fromYear, toYear)) {
+            job = ingestJobService.resume(unfinished.get().getId());
+        } else {
+            unfinished.ifPresent(previous -> ingestJobService.cancel(previous.getId()));
+            job = ingestJobService.start(PositiveNewsCollectorService.JOB_TYPE, params);
+        }
 
         return ResponseEntity.ok(Map.of(
+                "jobId", job.getId(),
                 "message", clearBefore
                         ? "기존 뉴스를 삭제하고 새로 수집을 시작했습니다."
                         : "기존 뉴스를 유지하면서 추가 수집을 시작했습니다.",
@@ -70,13 +83,60 @@ public class PositiveNewsController {
         ));
     }
 
+    private boolean isSameRange(IngestJob job, int fromYear, int toYear) {
+        Map<String, String> params = ingestJobService.getParams(job);
+        return String.valueOf(fromYear).equals(params.get("fromYear"))
+                && String.valueOf(toYear).equals(params.get("toYear"));
+    }
+
     /**
      * GET /api/positive-news/collect/status
      * 수집 진행 상태 조회
      */
     @GetMapping("/collect/status")
     public ResponseEntity<Map<String, Object>> getCollectionStatus() {
-        return ResponseEntity.ok(collectorService.getCollectionStatus());
+        Map<String, Object> status = new HashMap<>();
+        status.put("isCollecting", ingestJobService.isRunning(PositiveNewsCollectorService.JOB_TYPE));
+
+        ingestJobService.findLatest(PositiveNewsCollectorService.JOB_TYPE)
+                .ifPresent(job -> status.putAll(ingestJobService.getProgress(job)));
+
+        return ResponseEntity.ok(status);
+    }
+
+    /**
+     * GET /api/positive-news/rules
+     * 현재 적용 중인 분류 규칙 버전
+     */
+    @GetMapping("/rules")
+    public ResponseEntity<Map<String, Object>> getRules() {
+        return ResponseEntity.ok(newsRules.current().toMap());
+    }
+
+    /**
+     * GET /api/positive-news/planner
+     * 검색어 계획 통계 (조직별로 키워드별 검색 대비 줄인 호출 수)
+     */
+    @GetMapping("/planner")
+    public ResponseEntity<Map<String, Object>> getPlannerStatistics() {
+        return ResponseEntity.ok(collectorService.getPlannerStatistics());
+    }
+
+    /**
+     * POST /api/positive-news/rules/reload
+     * 분류 규칙 다시 읽기 (수집 중에도 가능, 다음 검색 페이지부터 적용)
+     */
+    @PostMapping("/rules/reload")
+    public ResponseEntity<Map<String, Object>> reloadRules() {
+        try {
+            return ResponseEntity.ok(newsRules.reload().toMap());
+        } catch (Exception e) {
+            log.error("❌ 뉴스 분류 규칙 적용 실패", e);
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", e.getMessage(),
+                    "version", newsRules.current().version()
+            ));
+        }
     }
 
     /**
@@ -87,6 +147,7 @@ public class PositiveNewsController {
     public ResponseEntity<Map<String, Object>> deleteAllNews() {
         long count = positiveNewsRepository.count();
         positiveNewsRepository.deleteAll();
+        newsDedupFilter.reload();
 
         log.info("🗑️ 전체 뉴스 삭제 완료: {} 건", count);
 
@@ -0,0 +1,21 @@
+package com.socialimpact.tracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DonationImportDTO {
+    private String organizationName;
+    private String stockCode;
+    private Integer year;
+    private Integer quarter;
+    private BigDecimal donationAmount;
+    private String reportType;
+    private String dataSource;
+    private String verificationStatus;
+    private String currency;
+}
@@ -9,7 +9,8 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "emissions")
+@Table(name = "emissions",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"organization_id", "year"}))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,74 @@
+package com.socialimpact.tracker.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+@Entity
+@Table(name = "ingest_jobs",
+        indexes = @Index(name = "idx_ingest_jobs_type_status", columnList = "job_type, status"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngestJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_type", nullable = false, length = 50)
+    private String jobType; // "DART_DONATION", "POSITIVE_NEWS" 등
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private JobStatus status;
+
+    @Column(columnDefinition = "TEXT")
+    private String params; // 작업 파라미터 (JSON)
+
+    @Column(name = "total_items")
+    private Integer totalItems; // null 이면 아직 작업 항목 생성 전
+
+    @Column(name = "deferred_until")
+    private LocalDateTime deferredUntil; // API 한도 초과 시 재개 시각
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public enum JobStatus {
+        PENDING, RUNNING, PAUSED, THROTTLED, COMPLETED, CANCELLED, FAILED;
+
+        /**
+         * 아직 끝나지 않은 상태 (재개 가능)
+         */
+        public static final Set<JobStatus> UNFINISHED = EnumSet.of(PENDING, RUNNING, PAUSED, THROTTLED);
+    }
+}
@@ -0,0 +1,32 @@
+package com.socialimpact.tracker.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "ingest_watermarks")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngestWatermark {
+
+    @Id
+    @Column(length = 100)
+    private String name; // "DART_FILING_LIST" 등
+
+    @Column(name = "watermark_value", length = 200)
+    private String value; // 마지막으로 처리한 위치 (날짜 등)
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,61 @@
+package com.socialimpact.tracker.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "ingest_work_items",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"job_id", "item_key"}),
+        indexes = @Index(name = "idx_ingest_items_job_status", columnList = "job_id, status"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngestWorkItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "job_id", nullable = false)
+    private IngestJob job;
+
+    @Column(name = "item_key", nullable = false, length = 100)
+    private String itemKey; // corp_code, organization id 등
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ItemStatus status = ItemStatus.PENDING;
+
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "result_count")
+    private Integer resultCount; // 저장된 레코드 수
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public Long getJobId() {
+        return job != null ? job.getId() : null;
+    }
+
+    public enum ItemStatus {
+        PENDING, RUNNING, DONE, FAILED
+    }
+}
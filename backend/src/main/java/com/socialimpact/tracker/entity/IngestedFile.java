@@ -0,0 +1,44 @@
+package com.socialimpact.tracker.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "ingested_files",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"kind", "sha256"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngestedFile {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String kind; // "DONATION_CSV_UPLOAD", "GIR_EXCEL_UPLOAD"
+
+    @Column(nullable = false, length = 64)
+    private String sha256; // 파일 내용 해시 (hex)
+
+    @Column(name = "file_name", length = 255)
+    private String fileName;
+
+    @Column(name = "size_bytes")
+    private Long sizeBytes;
+
+    @Column(name = "row_count")
+    private Integer rowCount;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,33 @@
+package com.socialimpact.tracker.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "ingested_key_fingerprints",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"kind", "record_key"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngestedKeyFingerprint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String kind;
+
+    @Column(name = "record_key", nullable = false, length = 100)
+    private String recordKey; // 저장된 행의 자연키 (예: "organization_id:year")
+
+    @Column(nullable = false)
+    private Long fingerprint; // 지금 저장된 값의 내용 지문
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,25 @@
+package com.socialimpact.tracker.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "ingested_row_hashes",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"kind", "row_hash"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngestedRowHash {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String kind;
+
+    @Column(name = "row_hash", nullable = false)
+    private Long rowHash; // 행 내용 SHA-256 의 앞 8바이트
+}
@@ -10,7 +10,10 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "positive_news")
+@Table(name = "positive_news", indexes = {
+        @Index(name = "idx_positive_news_url_hash", columnList = "url_hash"),
+        @Index(name = "idx_positive_news_title_hash", columnList = "title_hash")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -37,6 +40,15 @@ public class PositiveNews {
     @Column(nullable = false, length = 1000, unique = true)
     private String url;
 
+    // 중복 확인용 64비트 해시 (NewsDedupFilter)
+    @JsonIgnore
+    @Column(name = "url_hash")
+    private Long urlHash;
+
+    @JsonIgnore
+    @Column(name = "title_hash")
+    private Long titleHash;
+
     @Column(name = "published_date", nullable = false)
     private LocalDate publishedDate;
 
@@ -49,6 +61,10 @@ public class PositiveNews {
     @Column(name = "matched_keywords", columnDefinition = "TEXT")
     private String matchedKeywords;
 
+    // 분류에 쓴 규칙 버전 (NewsClassificationRules)
+    @Column(name = "rules_version", length = 20)
+    private String rulesVersion;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -22,6 +22,18 @@ public interface DonationRepository extends JpaRepository<Donation, Long> {
     @Query("SELECT DISTINCT d.year FROM Donation d ORDER BY d.year DESC")
     List<Integer> findDistinctYears();
 
+    /**
+     * 전체 (organization_id, year, quarter) 키 - 증분 수집용
+     */
+    @Query("SELECT d.organization.id, d.year, d.quarter FROM Donation d")
+    List<Object[]> findAllKeys();
+
+    /**
+     * 전체 (organization_id, year, quarter, donation_amount) - CSV 일괄 업로드 시 메모리 병합용
+     */
+    @Query("SELECT d.organization.id, d.year, d.quarter, d.donationAmount FROM Donation d")
+    List<Object[]> findAllKeyAmounts();
+
     @Query("SELECT d FROM Donation d WHERE d.year BETWEEN :startYear AND :endYear")
     List<Donation> findByYearRange(Integer startYear, Integer endYear);
 }
\ No newline at end of file
@@ -99,4 +99,14 @@ public interface EmissionRepository extends JpaRepository<Emission, Long> {
             @Param("fromYear") Integer fromYear,
             @Param("toYear") Integer toYear
     );
-}
\ No newline at end of file
+
+    /**
+     * GIR 매칭 통계 한 번에 조회 - [상장사 수, 배출량 데이터가 있는 상장사 수, 전체 배출량 레코드 수]
+     */
+    @Query(value = "SELECT COUNT(*), " +
+            "COALESCE(SUM(EXISTS (SELECT 1 FROM emissions e WHERE e.organization_id = o.id)), 0), " +
+            "(SELECT COUNT(*) FROM emissions) " +
+            "FROM organizations o WHERE o.type = '상장사'",
+            nativeQuery = true)
+    List<Object[]> getMatchingStatistics();
+}
@@ -0,0 +1,89 @@
+package com.socialimpact.tracker.repository;
+
+import com.socialimpact.tracker.entity.IngestJob;
+import com.socialimpact.tracker.entity.IngestJob.JobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface IngestJobRepository extends JpaRepository<IngestJob, Long> {
+
+    /**
+     * 특정 유형의 가장 최근 작업 (상태 조건)
+     */
+    Optional<IngestJob> findFirstByJobTypeAndStatusInOrderByIdDesc(String jobType, Collection<JobStatus> statuses);
+
+    /**
+     * 특정 유형의 가장 최근 작업
+     */
+    Optional<IngestJob> findFirstByJobTypeOrderByIdDesc(String jobType);
+
+    List<IngestJob> findByStatus(JobStatus status);
+
+    List<IngestJob> findTop50ByOrderByIdDesc();
+
+    /**
+     * 재개 시각이 지난 한도 초과 작업
+     */
+    List<IngestJob> findByStatusAndDeferredUntilLessThanEqual(JobStatus status, LocalDateTime now);
+
+    @Query("SELECT j.status FROM IngestJob j WHERE j.id = :id")
+    Optional<JobStatus> findStatusById(@Param("id") Long id);
+
+    /**
+     * 상태 전이 (현재 상태가 from 중 하나일 때만) - 변경된 행 수 반환
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE IngestJob j SET j.status = :to, j.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE j.id = :id AND j.status IN :from")
+    int transition(@Param("id") Long id,
+                   @Param("from") Collection<JobStatus> from,
+                   @Param("to") JobStatus to);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE IngestJob j SET j.startedAt = COALESCE(j.startedAt, :now), j.deferredUntil = NULL " +
+            "WHERE j.id = :id")
+    int markStarted(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE IngestJob j SET j.totalItems = :totalItems WHERE j.id = :id")
+    int updateTotalItems(@Param("id") Long id, @Param("totalItems") Integer totalItems);
+
+    /**
+     * 실행 중인 작업 종료 (COMPLETED / FAILED)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE IngestJob j SET j.status = :to, j.finishedAt = :now, j.lastError = :error, " +
+            "j.updatedAt = :now WHERE j.id = :id AND j.status = :from")
+    int finish(@Param("id") Long id,
+               @Param("from") JobStatus from,
+               @Param("to") JobStatus to,
+               @Param("now") LocalDateTime now,
+               @Param("error") String error);
+
+    /**
+     * 실행 중인 작업을 한도 초과 상태로 (until 이후 재개)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE IngestJob j SET j.status = :to, j.deferredUntil = :until, j.lastError = :error, " +
+            "j.updatedAt = CURRENT_TIMESTAMP WHERE j.id = :id AND j.status = :from")
+    int defer(@Param("id") Long id,
+              @Param("from") JobStatus from,
+              @Param("to") JobStatus to,
+              @Param("until") LocalDateTime until,
+              @Param("error") String error);
+}
@@ -0,0 +1,9 @@
+package com.socialimpact.tracker.repository;
+
+import com.socialimpact.tracker.entity.IngestWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface IngestWatermarkRepository extends JpaRepository<IngestWatermark, String> {
+}
@@ -0,0 +1,49 @@
+package com.socialimpact.tracker.repository;
+
+import com.socialimpact.tracker.entity.IngestWorkItem;
+import com.socialimpact.tracker.entity.IngestWorkItem.ItemStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface IngestWorkItemRepository extends JpaRepository<IngestWorkItem, Long> {
+
+    /**
+     * 처리 대기 항목 (id 순)
+     */
+    List<IngestWorkItem> findByJob_IdAndStatusOrderByIdAsc(Long jobId, ItemStatus status, Pageable pageable);
+
+    List<IngestWorkItem> findByJob_IdAndStatus(Long jobId, ItemStatus status);
+
+    long countByJob_Id(Long jobId);
+
+    /**
+     * 상태별 항목 수
+     */
+    @Query("SELECT i.status, COUNT(i) FROM IngestWorkItem i WHERE i.job.id = :jobId GROUP BY i.status")
+    List<Object[]> countByStatus(@Param("jobId") Long jobId);
+
+    /**
+     * 결과가 있는 완료 항목 수 / 저장된 레코드 합계
+     */
+    @Query("SELECT COUNT(i), COALESCE(SUM(i.resultCount), 0) FROM IngestWorkItem i " +
+            "WHERE i.job.id = :jobId AND i.status = :status AND i.resultCount > 0")
+    List<Object[]> summarizeResults(@Param("jobId") Long jobId, @Param("status") ItemStatus status);
+
+    /**
+     * 항목 상태 일괄 변경 (예: 중단된 작업의 RUNNING → PENDING)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE IngestWorkItem i SET i.status = :to WHERE i.job.id = :jobId AND i.status = :from")
+    int updateStatus(@Param("jobId") Long jobId,
+                     @Param("from") ItemStatus from,
+                     @Param("to") ItemStatus to);
+}
@@ -0,0 +1,20 @@
+package com.socialimpact.tracker.repository;
+
+import com.socialimpact.tracker.entity.IngestedFile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface IngestedFileRepository extends JpaRepository<IngestedFile, Long> {
+
+    boolean existsByKindAndSha256(String kind, String sha256);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IngestedFile f WHERE f.kind = :kind")
+    int deleteByKind(@Param("kind") String kind);
+}
@@ -2,8 +2,30 @@ package com.socialimpact.tracker.repository;
 
 import com.socialimpact.tracker.entity.Organization;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface OrganizationRepository extends JpaRepository<Organization, Long> {
-}
\ No newline at end of file
+
+    Optional<Organization> findFirstByCorpCode(String corpCode);
+
+    Optional<Organization> findFirstByName(String name);
+
+    List<Organization> findByCorpCodeIsNull();
+
+    /**
+     * corp_code 가 등록된 조직의 [corpCode, id] 목록
+     */
+    @Query("SELECT o.corpCode, o.id FROM Organization o WHERE o.corpCode IS NOT NULL")
+    List<Object[]> findCorpCodeIds();
+
+    /**
+     * 전체 조직의 [id, name] 목록 - 이름 색인용
+     */
+    @Query("SELECT o.id, o.name FROM Organization o ORDER BY o.id")
+    List<Object[]> findIdNames();
+}
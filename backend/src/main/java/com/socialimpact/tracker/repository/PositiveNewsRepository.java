@@ -95,6 +95,16 @@ public interface PositiveNewsRepository extends JpaRepository<PositiveNews, Long
      */
     boolean existsByOrganization_IdAndTitle(Long orgId, String title);
 
+    /**
+     * URL 해시 인덱스로 중복 확인 (해시가 같으면 URL 까지 비교)
+     */
+    boolean existsByUrlHashAndUrl(Long urlHash, String url);
+
+    /**
+     * 제목 해시 인덱스로 중복 확인 (동일 조직 내)
+     */
+    boolean existsByTitleHashAndOrganization_Id(Long titleHash, Long orgId);
+
     // ==================== 검색 ====================
 
     /**
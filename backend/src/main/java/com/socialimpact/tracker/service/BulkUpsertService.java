@@ -0,0 +1,301 @@
+package com.socialimpact.tracker.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 일괄 upsert 엔진
+ *
+ * 행마다 "자연키로 조회 → 수정 → save" 하던 것을 청크 단위 다중 행
+ * INSERT ... ON DUPLICATE KEY UPDATE 한 번으로 처리한다.
+ * 병합 방식(교체/최대/합계 등)은 UpsertSpec 의 컬럼별 MergeMode 로 정한다.
+ *
+ * 자연키에 null 이 있는 행(예: 분기 없는 연간 기부금)은 MySQL unique 제약이 잡지 못하므로
+ * null-safe 비교(<=>) UPDATE 후 없으면 INSERT 한다.
+ *
+ * 병합 없이 중복만 건너뛰는 정의(ignoreDuplicates)는 "ON DUPLICATE KEY UPDATE 키 = 키" 로 쓴다.
+ * INSERT IGNORE 는 중복 외의 오류(잘림, NOT NULL 위반)까지 경고로 낮춰 잘못된 행이 조용히 저장되기 때문이다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BulkUpsertService {
+
+    private static final String VALUE = "{v}";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${ingest.bulk.chunk-size:500}")
+    private int chunkSize;
+
+    /**
+     * 청크 하나 처리 결과
+     */
+    public record ChunkStats(String table, int chunk, int rows, int affectedRows, long elapsedMs) {
+        public double rowsPerSecond() {
+            return elapsedMs > 0 ? rows * 1000.0 / elapsedMs : rows;
+        }
+    }
+
+    /**
+     * 전체 처리 결과
+     */
+    public record Result(String table, int rows, int chunks, int affectedRows, long elapsedMs) {
+        public double rowsPerSecond() {
+            return elapsedMs > 0 ? rows * 1000.0 / elapsedMs : rows;
+        }
+
+        public Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("table", table);
+            map.put("rows", rows);
+            map.put("chunks", chunks);
+            map.put("affectedRows", affectedRows);
+            map.put("elapsedMs", elapsedMs);
+            map.put("rowsPerSecond", Math.round(rowsPerSecond()));
+            return map;
+        }
+    }
+
+    public <T> Result upsert(UpsertSpec<T> spec, Iterable<T> rows) {
+        try (Session<T> session = open(spec, null)) {
+            rows.forEach(session::add);
+            return session.finish();
+        }
+    }
+
+    /**
+     * 스트리밍 upsert - add() 로 넣으면 청크가 찰 때마다 기록, finish() 로 마무리
+     *
+     * finish() 없이 close() 되면(예외로 빠져나온 경우) 버퍼에 남은 행은 버린다. 이미 기록한 청크는 그대로 남는다.
+     * listener 가 있으면 청크마다 처리량을 넘겨준다 (진행률 표시용). 한 스레드에서만 사용한다.
+     */
+    public <T> Session<T> open(UpsertSpec<T> spec, Consumer<ChunkStats> listener) {
+        return new Session<>(spec, listener);
+    }
+
+    public final class Session<T> implements AutoCloseable {
+
+        private final UpsertSpec<T> spec;
+        private final Consumer<ChunkStats> listener;
+        private final List<T> buffer;
+        private final long startedAt = System.currentTimeMillis();
+
+        private int rows;
+        private int chunks;
+        private int affectedRows;
+        private Result result;
+
+        private Session(UpsertSpec<T> spec, Consumer<ChunkStats> listener) {
+            this.spec = spec;
+            this.listener = listener;
+            this.buffer = new ArrayList<>(chunkSize);
+        }
+
+        public void add(T row) {
+            buffer.add(row);
+            if (buffer.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        public void flush() {
+            if (buffer.isEmpty()) {
+                return;
+            }
+
+            long chunkStart = System.currentTimeMillis();
+            int affected = writeChunk(spec, buffer);
+            long elapsed = System.currentTimeMillis() - chunkStart;
+
+            chunks++;
+            rows += buffer.size();
+            affectedRows += affected;
+
+            ChunkStats stats = new ChunkStats(spec.getTable(), chunks, buffer.size(), affected, elapsed);
+            log.debug("💾 [{}] 청크 #{}: {}행, {}ms ({}행/초)",
+                    stats.table(), stats.chunk(), stats.rows(), stats.elapsedMs(), Math.round(stats.rowsPerSecond()));
+            if (listener != null) {
+                listener.accept(stats);
+            }
+            buffer.clear();
+        }
+
+        public Result finish() {
+            if (result == null) {
+                flush();
+                result = new Result(spec.getTable(), rows, chunks, affectedRows,
+                        System.currentTimeMillis() - startedAt);
+                if (rows > 0) {
+                    log.info("💾 [{}] upsert 완료: {}행 / {}청크, {}ms ({}행/초)",
+                            result.table(), result.rows(), result.chunks(), result.elapsedMs(),
+                            Math.round(result.rowsPerSecond()));
+                }
+            }
+            return result;
+        }
+
+        /**
+         * 지금까지 DB 에 기록한 행 수 (버퍼에 남은 행 제외)
+         */
+        public int writtenRows() {
+            return rows;
+        }
+
+        @Override
+        public void close() {
+            if (result == null && !buffer.isEmpty()) {
+                log.warn("⚠️ [{}] upsert 중단: 기록하지 않은 {}행 폐기 (기록 완료 {}행)",
+                        spec.getTable(), buffer.size(), rows);
+                buffer.clear();
+            }
+        }
+    }
+
+    private <T> int writeChunk(UpsertSpec<T> spec, List<T> rows) {
+        if (spec.isIgnoreDuplicates()) {
+            return insertSkippingDuplicates(spec, rows);
+        }
+
+        List<T> keyed = new ArrayList<>(rows.size());
+        List<T> nullKeyed = new ArrayList<>();
+        for (T row : rows) {
+            boolean hasNullKey = spec.getKeyColumns().stream().anyMatch(c -> c.value().apply(row) == null);
+            (hasNullKey ? nullKeyed : keyed).add(row);
+        }
+
+        int affected = 0;
+        if (!keyed.isEmpty()) {
+            affected += insertOnDuplicateKey(spec, keyed);
+        }
+        for (T row : nullKeyed) {
+            affected += updateOrInsert(spec, row);
+        }
+        return affected;
+    }
+
+    private <T> int insertOnDuplicateKey(UpsertSpec<T> spec, List<T> rows) {
+        List<UpsertSpec.Column<T>> columns = spec.getAllColumns();
+        String placeholders = columns.stream().map(c -> "?").collect(Collectors.joining(", ", "(", ")"));
+
+        StringBuilder sql = new StringBuilder(insertPrefix(spec));
+        Object[] params = new Object[rows.size() * columns.size()];
+        int p = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append(placeholders);
+            for (UpsertSpec.Column<T> column : columns) {
+                params[p++] = column.value().apply(rows.get(i));
+            }
+        }
+
+        List<String> assignments = new ArrayList<>();
+        for (UpsertSpec.Column<T> column : spec.getValueColumns()) {
+            if (column.mode() != UpsertSpec.MergeMode.INSERT_ONLY) {
+                assignments.add(column.name() + " = "
+                        + mergeExpression(column.name(), column.mode()).replace(VALUE, "VALUES(" + column.name() + ")"));
+            }
+        }
+        if (assignments.isEmpty()) {
+            String firstKey = spec.getKeyColumns().get(0).name();
+            assignments.add(firstKey + " = " + firstKey); // 이미 있으면 그대로 둔다
+        }
+        sql.append(" ON DUPLICATE KEY UPDATE ").append(String.join(", ", assignments));
+
+        return jdbcTemplate.update(sql.toString(), params);
+    }
+
+    private <T> int insertSkippingDuplicates(UpsertSpec<T> spec, List<T> rows) {
+        List<UpsertSpec.Column<T>> columns = spec.getAllColumns();
+        String placeholders = columns.stream().map(c -> "?").collect(Collectors.joining(", ", "(", ")"));
+
+        StringBuilder sql = new StringBuilder(insertPrefix(spec));
+        Object[] params = new Object[rows.size() * columns.size()];
+        int p = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append(placeholders);
+            for (UpsertSpec.Column<T> column : columns) {
+                params[p++] = column.value().apply(rows.get(i));
+            }
+        }
+        // 중복 키만 건너뛰고 다른 오류는 그대로 예외로 올린다 (바뀌지 않은 중복 행은 affected 0)
+        String firstKey = spec.getKeyColumns().get(0).name();
+        sql.append(" ON DUPLICATE KEY UPDATE ").append(firstKey).append(" = ").append(firstKey);
+        return jdbcTemplate.update(sql.toString(), params);
+    }
+
+    private <T> int updateOrInsert(UpsertSpec<T> spec, T row) {
+        String where = spec.getKeyColumns().stream()
+                .map(c -> c.name() + " <=> ?")
+                .collect(Collectors.joining(" AND "));
+        List<Object> keyParams = spec.getKeyColumns().stream()
+                .map(c -> c.value().apply(row))
+                .collect(Collectors.toList());
+
+        List<String> assignments = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+        for (UpsertSpec.Column<T> column : spec.getValueColumns()) {
+            if (column.mode() == UpsertSpec.MergeMode.INSERT_ONLY) {
+                continue;
+            }
+            String expression = mergeExpression(column.name(), column.mode());
+            Object value = column.value().apply(row);
+            int occurrences = expression.split(Pattern.quote(VALUE), -1).length - 1;
+            for (int i = 0; i < occurrences; i++) {
+                params.add(value);
+            }
+            assignments.add(column.name() + " = " + expression.replace(VALUE, "?"));
+        }
+
+        if (assignments.isEmpty()) {
+            Integer existing = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM " + spec.getTable() + " WHERE " + where, Integer.class, keyParams.toArray());
+            if (existing != null && existing > 0) {
+                return 0;
+            }
+        } else {
+            params.addAll(keyParams);
+            int updated = jdbcTemplate.update("UPDATE " + spec.getTable() + " SET "
+                    + String.join(", ", assignments) + " WHERE " + where, params.toArray());
+            if (updated > 0) {
+                return updated;
+            }
+        }
+
+        List<UpsertSpec.Column<T>> columns = spec.getAllColumns();
+        String placeholders = columns.stream().map(c -> "?").collect(Collectors.joining(", ", "(", ")"));
+        Object[] insertParams = columns.stream().map(c -> c.value().apply(row)).toArray();
+        return jdbcTemplate.update(insertPrefix(spec) + placeholders, insertParams);
+    }
+
+    private static String insertPrefix(UpsertSpec<?> spec) {
+        return "INSERT INTO " + spec.getTable() + " ("
+                + spec.getAllColumns().stream().map(UpsertSpec.Column::name).collect(Collectors.joining(", "))
+                + ") VALUES ";
+    }
+
+    /**
+     * 병합 식 ({v} = 새 값)
+     */
+    private static String mergeExpression(String column, UpsertSpec.MergeMode mode) {
+        return switch (mode) {
+            case REPLACE -> "COALESCE({v}, " + column + ")";
+            case MAX -> "GREATEST(COALESCE(" + column + ", {v}), COALESCE({v}, " + column + "))";
+            case SUM -> "COALESCE(" + column + ", 0) + COALESCE({v}, 0)";
+            case APPEND -> "CASE WHEN " + column + " IS NULL OR " + column + " = '' THEN {v}"
+                    + " WHEN {v} IS NULL OR LOCATE({v}, " + column + ") > 0 THEN " + column
+                    + " ELSE CONCAT(" + column + ", ', ', {v}) END";
+            case INSERT_ONLY -> column;
+        };
+    }
+}
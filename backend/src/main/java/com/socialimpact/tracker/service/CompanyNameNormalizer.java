@@ -0,0 +1,157 @@
+package com.socialimpact.tracker.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회사명 정규화 (DART CSV / GIR 매칭 공용)
+ *
+ * - 회사 형태 제거: 주식회사, (주), ㈜, 유한회사, (유)
+ * - 한글 표기 → 영문 소문자: 에스케이 → sk, 엘지 → lg, 포스코 → posco ...
+ * - 공백, 괄호, 하이픈, 밑줄, 마침표, 쉼표, 대괄호 제거 후 소문자
+ *
+ * 토큰 테이블은 첫 글자 기준으로 미리 색인해 두고, 문자열을 한 번만 훑으면서 치환한다.
+ * 결과는 크기 제한이 있는 ConcurrentHashMap 에 캐싱한다.
+ */
+@Component
+public class CompanyNameNormalizer {
+
+    private static final int DEFAULT_CACHE_SIZE = 100_000;
+
+    private static final String[][] TOKENS = {
+            // 회사 형태 제거
+            {"주식회사", ""},
+            {"(주)", ""},
+            {"㈜", ""},
+            {"유한회사", ""},
+            {"(유)", ""},
+            // 한글 → 영문
+            {"에스케이", "sk"},
+            {"엘지", "lg"},
+            {"케이티", "kt"},
+            {"지에스", "gs"},
+            {"씨제이", "cj"},
+            {"케이비", "kb"},
+            {"포스코", "posco"}
+    };
+
+    // 첫 글자 → (토큰, 치환값) 목록, 긴 토큰 우선
+    private static final Map<Character, String[][]> TOKEN_INDEX = buildTokenIndex();
+
+    private final int maxCacheSize;
+    private final Map<String, String> cache = new ConcurrentHashMap<>();
+
+    public CompanyNameNormalizer() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    public CompanyNameNormalizer(int maxCacheSize) {
+        this.maxCacheSize = maxCacheSize;
+    }
+
+    /**
+     * 회사명 정규화 (캐시 사용)
+     */
+    public String normalize(String name) {
+        if (name == null || name.isEmpty()) {
+            return "";
+        }
+
+        String cached = cache.get(name);
+        if (cached != null) {
+            return cached;
+        }
+
+        String normalized = normalizeUncached(name);
+
+        // 상한 초과 시 통째로 비움 (업로드 단위로 이름 집합이 바뀌므로 LRU 까지는 불필요)
+        if (cache.size() >= maxCacheSize) {
+            cache.clear();
+        }
+        cache.put(name, normalized);
+
+        return normalized;
+    }
+
+    /**
+     * 캐시 없이 한 번의 스캔으로 정규화
+     */
+    public static String normalizeUncached(String name) {
+        if (name == null || name.isEmpty()) {
+            return "";
+        }
+
+        int length = name.length();
+        StringBuilder sb = new StringBuilder(length);
+
+        int i = 0;
+        while (i < length) {
+            char ch = name.charAt(i);
+
+            String[][] candidates = TOKEN_INDEX.get(ch);
+            if (candidates != null) {
+                String[] matched = null;
+                for (String[] candidate : candidates) {
+                    if (name.startsWith(candidate[0], i)) {
+                        matched = candidate;
+                        break;
+                    }
+                }
+                if (matched != null) {
+                    sb.append(matched[1]);
+                    i += matched[0].length();
+                    continue;
+                }
+            }
+
+            if (!isSeparator(ch)) {
+                sb.append(ch < 128 ? asciiLower(ch) : Character.toLowerCase(ch));
+            }
+            i++;
+        }
+
+        return sb.toString();
+    }
+
+    public int cacheSize() {
+        return cache.size();
+    }
+
+    public void clearCache() {
+        cache.clear();
+    }
+
+    private static boolean isSeparator(char ch) {
+        switch (ch) {
+            case '(', ')', '-', '_', '.', ',', '[', ']':
+                return true;
+            default:
+                return Character.isWhitespace(ch);
+        }
+    }
+
+    private static char asciiLower(char ch) {
+        return (ch >= 'A' && ch <= 'Z') ? (char) (ch + ('a' - 'A')) : ch;
+    }
+
+    private static Map<Character, String[][]> buildTokenIndex() {
+        Map<Character, List<String[]>> grouped = new HashMap<>();
+        for (String[] token : TOKENS) {
+            grouped.computeIfAbsent(token[0].charAt(0), k -> new ArrayList<>()).add(token);
+        }
+
+        Map<Character, String[][]> index = new HashMap<>();
+        for (Map.Entry<Character, List<String[]>> entry : grouped.entrySet()) {
+            List<String[]> tokens = entry.getValue();
+            tokens.sort(Comparator.comparingInt((String[] t) -> t[0].length()).reversed());
+            index.put(entry.getKey(), tokens.toArray(new String[0][]));
+        }
+        return Map.copyOf(index);
+    }
+}
@@ -3,37 +3,53 @@ package com.socialimpact.tracker.service;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import com.socialimpact.tracker.client.AdaptiveRateLimiter;
+import com.socialimpact.tracker.client.UpstreamResponseCache;
 import com.socialimpact.tracker.entity.*;
 import com.socialimpact.tracker.repository.*;
-import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.SpringApplication;
-import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.springframework.web.util.UriBuilder;
 
-import java.io.*;
 import java.math.BigDecimal;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class DartCollectorService {
+public class DartCollectorService implements IngestJobHandler {
 
-    private final WebClient.Builder webClientBuilder;
+    public static final String JOB_TYPE = "DART_DONATION";
+
+    // 보고서 코드 (fnlttSinglAcnt reprt_code)
+    public static final String REPORT_ANNUAL = "11011";   // 사업보고서
+    public static final String REPORT_HALF = "11012";     // 반기보고서
+    public static final String REPORT_Q1 = "11013";       // 1분기보고서
+    public static final String REPORT_Q3 = "11014";       // 3분기보고서
+
+    private final WebClient dartWebClient;
+    private final ObjectMapper objectMapper;
     private final OrganizationRepository organizationRepository;
     private final DonationRepository donationRepository;
-    private final ApplicationContext applicationContext; // ← 추가
+    private final DonationWriter donationWriter;
+    private final AdaptiveRateLimiter dartRateLimiter;
+    private final UpstreamResponseCache responseCache;
 
     @Value("${opendart.api-key}")
     private String dartApiKey;
@@ -41,179 +57,218 @@ public class DartCollectorService {
     @Value("${opendart.base-url}")
     private String dartBaseUrl;
 
+    // 응답 캐시 TTL (엔드포인트별)
+    @Value("${upstream.cache.ttl.dart-corp-codes:1d}")
+    private Duration corpCodesTtl;
+
+    @Value("${upstream.cache.ttl.dart-company:7d}")
+    private Duration companyTtl;
+
+    @Value("${upstream.cache.ttl.dart-financials-closed:365d}")
+    private Duration closedFinancialsTtl;
+
+    @Value("${upstream.cache.ttl.dart-financials-open:1d}")
+    private Duration openFinancialsTtl;
+
+    @Value("${upstream.cache.ttl.dart-no-data:1d}")
+    private Duration noDataTtl;
+
     @Value("${ingest.donation.from-year}")
     private int fromYear;
 
     @Value("${ingest.donation.to-year}")
     private int toYear;
 
-    // 체크포인트 파일 경로
-    private static final String CHECKPOINT_FILE = "donation_checkpoint.txt";
-    private static final String PROGRESS_FILE = "donation_progress.log";
-
-    @Getter
-    private final AtomicInteger totalCompanies = new AtomicInteger(0);
-    @Getter
-    private final AtomicInteger processedCompanies = new AtomicInteger(0);
-    @Getter
-    private final AtomicInteger successCount = new AtomicInteger(0);
-    @Getter
-    private final AtomicInteger failureCount = new AtomicInteger(0);
-    @Getter
-    private volatile boolean isCollecting = false;
-    @Getter
-    private volatile long startTime = 0;
-
-    private volatile boolean apiLimitReached = false;
-    private int consecutiveApiErrors = 0;
-    private static final int MAX_CONSECUTIVE_ERRORS = 5;
+    // 한도 초과 시 DART 는 HTTP 200 + status 020 으로 응답한다
+    private static final Pattern LIMIT_STATUS = Pattern.compile("\"status\"\\s*:\\s*\"020\"");
+    // 캐시해도 되는 응답 (000: 정상, 013: 조회된 데이터 없음)
+    private static final Pattern CACHEABLE_STATUS = Pattern.compile("\"status\"\\s*:\\s*\"0(00|13)\"");
+    private static final Pattern NO_DATA_STATUS = Pattern.compile("\"status\"\\s*:\\s*\"013\"");
 
-    /**
-     * 🔄 체크포인트 저장
-     */
-    private void saveCheckpoint(int currentIndex, String corpCode) {
-        try {
-            Path checkpointPath = Paths.get(CHECKPOINT_FILE);
-            String data = currentIndex + "," + corpCode + "," + System.currentTimeMillis();
-            Files.writeString(checkpointPath, data);
-            log.info("💾 체크포인트 저장: {} ({})", currentIndex, corpCode);
-        } catch (IOException e) {
-            log.error("❌ 체크포인트 저장 실패", e);
-        }
+    @Override
+    public String getJobType() {
+        return JOB_TYPE;
     }
 
     /**
-     * 📖 체크포인트 로드
+     * 작업 항목 = 아직 기부금 데이터가 없는 "corp_code:연도" 목록
+     *
+     * donations 의 기존 키를 한 번에 읽어 이미 있는 회사-연도는 건너뛴다 (force=true 면 전체).
+     * 공시 기반 증분 수집은 DartDeltaCollectorService 가 따로 처리한다.
      */
-    private Integer loadCheckpoint() {
-        try {
-            Path checkpointPath = Paths.get(CHECKPOINT_FILE);
-            if (Files.exists(checkpointPath)) {
-                String data = Files.readString(checkpointPath);
-                String[] parts = data.split(",");
-                if (parts.length >= 1) {
-                    int index = Integer.parseInt(parts[0]);
-                    log.info("📖 체크포인트 발견: {}번째 회사부터 재개", index);
-                    return index;
+    @Override
+    public List<String> planItems(Map<String, String> params) {
+        int from = Integer.parseInt(params.getOrDefault("fromYear", String.valueOf(fromYear)));
+        int to = Integer.parseInt(params.getOrDefault("toYear", String.valueOf(toYear)));
+        boolean force = Boolean.parseBoolean(params.getOrDefault("force", "false"));
+
+        List<ListedCompany> companies = fetchListedCompanies();
+        List<String> corpCodes = companies.stream().map(ListedCompany::corpCode).toList();
+
+        DonationKeySet existing = force ? null : DonationKeySet.of(donationRepository.findAllKeys());
+        Map<String, Long> orgIdsByCorpCode = new HashMap<>();
+        if (!force) {
+            // 건너뛰기는 organizations.corp_code 로 찾으므로, 비어 있는 조직을 먼저 채운다
+            backfillCorpCodes(companies);
+            for (Object[] row : organizationRepository.findCorpCodeIds()) {
+                orgIdsByCorpCode.put((String) row[0], (Long) row[1]);
+            }
+        }
+
+        List<String> items = new ArrayList<>();
+        int skipped = 0;
+        for (String corpCode : corpCodes) {
+            Long orgId = orgIdsByCorpCode.get(corpCode);
+            for (int year = from; year <= to; year++) {
+                if (existing != null && orgId != null && existing.containsAnnual(orgId, year)) {
+                    skipped++;
+                    continue;
                 }
+                items.add(corpCode + ":" + year);
             }
-        } catch (IOException | NumberFormatException e) {
-            log.warn("⚠️ 체크포인트 로드 실패, 처음부터 시작합니다");
         }
-        return 0;
+
+        log.info("📋 수집 대상 {}건 (이미 수집됨 {}건 제외, force={})", items.size(), skipped, force);
+        return items;
     }
 
     /**
-     * 🗑️ 체크포인트 삭제 (완료 시)
+     * 항목 처리 - "corp_code[:연도[:보고서코드]]" (연도가 없으면 설정된 전체 기간, 보고서코드 기본 사업보고서)
+     *
+     * 공시로 생긴 항목(보고서코드가 있거나 source=filing-delta)은 정정/늦은 공시를 읽어야 하므로 캐시를 거치지 않는다.
      */
-    private void deleteCheckpoint() {
-        try {
-            Path checkpointPath = Paths.get(CHECKPOINT_FILE);
-            if (Files.exists(checkpointPath)) {
-                Files.delete(checkpointPath);
-                log.info("🗑️ 체크포인트 삭제 (수집 완료)");
-            }
-        } catch (IOException e) {
-            log.error("❌ 체크포인트 삭제 실패", e);
+    @Override
+    public int processItem(String itemKey, Map<String, String> params) {
+        String[] parts = itemKey.split(":");
+        if (parts.length == 1) {
+            return collectDonationData(parts[0]);
         }
+        boolean fromFiling = parts.length > 2 || "filing-delta".equals(params.get("source"));
+        return collectDonationData(parts[0], List.of(Integer.parseInt(parts[1])),
+                parts.length > 2 ? parts[2] : REPORT_ANNUAL, fromFiling);
     }
 
     /**
-     * 📊 진행 상황 로그 저장
+     * 🚦 DART JSON API 호출 (호출 간격은 dartRateLimiter 가 조절)
+     *
+     * 429 와 status 020 만 한도 초과로 보고 감속 후 재시도, 계속되면 QuotaExceededException.
+     * 그 밖의 4xx/5xx 는 WebClientResponseException 그대로.
+     * ttl 이 있으면 응답 캐시를 먼저 보고, 정상/데이터 없음 응답만 캐시에 남긴다.
+     * 데이터 없음(013) 응답은 ttl 이 길어도 dart-no-data 까지만 재사용한다 (늦은 공시가 곧 채워질 수 있다).
      */
-    private void saveProgressLog(String message) {
-        try {
-            Path progressPath = Paths.get(PROGRESS_FILE);
-            String timestamp = java.time.LocalDateTime.now().toString();
-            String logEntry = String.format("[%s] %s\n", timestamp, message);
-            Files.writeString(progressPath, logEntry,
-                    Files.exists(progressPath)
-                            ? java.nio.file.StandardOpenOption.APPEND
-                            : java.nio.file.StandardOpenOption.CREATE
-            );
-        } catch (IOException e) {
-            log.debug("진행 로그 저장 실패", e);
+    String getDartJson(Function<UriBuilder, URI> uriFunction, Duration ttl) {
+        URI uri = uriFunction.apply(new DefaultUriBuilderFactory(dartBaseUrl).builder());
+
+        Optional<String> cached = ttl.isZero() ? Optional.empty() : responseCache.getString(uri,
+                cachedBody -> NO_DATA_STATUS.matcher(cachedBody).find() && ttl.compareTo(noDataTtl) > 0
+                        ? noDataTtl
+                        : ttl);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        String body = dartRateLimiter.call(
+                () -> dartWebClient.get()
+                        .uri(uri)
+                        .retrieve()
+                        .bodyToMono(String.class)
+                        .block(),
+                response -> response != null && LIMIT_STATUS.matcher(response).find());
+
+        if (body != null && !ttl.isZero() && CACHEABLE_STATUS.matcher(body).find()) {
+            responseCache.putString(uri, body);
         }
+        return body;
     }
 
     /**
-     * 🚨 API 제한 감지
+     * 재무제표 캐시 TTL - 마감된 사업연도(작년 이전)는 바뀌지 않으므로 길게
      */
-    private boolean checkApiLimit(WebClientResponseException e) {
-        String errorBody = e.getResponseBodyAsString();
-        boolean isLimitError = e.getStatusCode().is4xxClientError()
-                || errorBody.contains("LIMITED_NUMBER_OF_SERVICE")
-                || errorBody.contains("SERVICE KEY IS NOT REGISTERED")
-                || errorBody.contains("API_LIMIT_EXCEEDED")
-                || errorBody.contains("NORMAL SERVICE");
-
-        if (isLimitError) {
-            consecutiveApiErrors++;
-            log.warn("⚠️ API 오류 감지 ({}회 연속): {}", consecutiveApiErrors, errorBody);
-
-            if (consecutiveApiErrors >= MAX_CONSECUTIVE_ERRORS) {
-                apiLimitReached = true;
-                log.error("🚫 API 제한 도달! {} 회 연속 오류", consecutiveApiErrors);
-                return true;
-            }
-        } else {
-            consecutiveApiErrors = 0; // 정상 응답 시 리셋
-        }
+    private Duration financialsTtl(int year) {
+        return year < LocalDate.now(QUOTA_ZONE).getYear() - 1 ? closedFinancialsTtl : openFinancialsTtl;
+    }
 
-        return false;
+    /**
+     * corpCode.xml 의 상장사 한 건
+     */
+    public record ListedCompany(String corpCode, String corpName, String stockCode) {
     }
 
     /**
-     * 🛑 서버 우아한 종료
+     * corp_code 가 없는 조직에 상장사 목록의 corp_code 를 채운다 (종목코드 일치 우선, 없으면 회사명 일치)
+     *
+     * 예전에 만든 조직은 corp_code 가 비어 있어, 채우지 않으면 이미 수집한 회사-연도를 다시 가져온다.
      */
-    private void shutdownGracefully() {
-        log.info("🛑 API 제한으로 인한 서버 종료 시작...");
-        log.info("📊 최종 통계:");
-        log.info("   - 총 처리: {} / {}", processedCompanies.get(), totalCompanies.get());
-        log.info("   - 성공: {}", successCount.get());
-        log.info("   - 실패: {}", failureCount.get());
-        log.info("   - 진행률: {:.2f}%", getProgressPercentage());
-
-        saveProgressLog(String.format(
-                "API 제한 도달 - 처리: %d/%d, 성공: %d, 실패: %d",
-                processedCompanies.get(), totalCompanies.get(),
-                successCount.get(), failureCount.get()
-        ));
-
-        // 5초 후 서버 종료
-        new Thread(() -> {
-            try {
-                Thread.sleep(5000);
-                log.info("👋 서버 종료 중...");
-                System.exit(0); // 강제 종료
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+    int backfillCorpCodes(List<ListedCompany> companies) {
+        List<Organization> missing = organizationRepository.findByCorpCodeIsNull();
+        if (missing.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, String> byStockCode = new HashMap<>();
+        Map<String, String> byName = new HashMap<>();
+        for (ListedCompany company : companies) {
+            byStockCode.putIfAbsent(company.stockCode(), company.corpCode());
+            byName.putIfAbsent(company.corpName(), company.corpCode());
+        }
+        Set<String> assigned = new HashSet<>();
+        for (Object[] row : organizationRepository.findCorpCodeIds()) {
+            assigned.add((String) row[0]);
+        }
+
+        List<Organization> updated = new ArrayList<>();
+        for (Organization org : missing) {
+            String corpCode = org.getStockCode() != null ? byStockCode.get(org.getStockCode()) : null;
+            if (corpCode == null) {
+                corpCode = byName.get(org.getName());
+            }
+            if (corpCode != null && assigned.add(corpCode)) {
+                org.setCorpCode(corpCode);
+                updated.add(org);
             }
-        }).start();
+        }
+        organizationRepository.saveAll(updated);
+
+        log.info("🔗 corp_code 보정: {}개 조직 중 {}개 연결", missing.size(), updated.size());
+        return updated.size();
     }
 
     /**
      * 📋 모든 상장사 corp_code 가져오기
      */
     public List<String> fetchAllCorpCodes() {
+        return fetchListedCompanies().stream().map(ListedCompany::corpCode).toList();
+    }
+
+    /**
+     * 📋 모든 상장사 (corp_code, 회사명, 종목코드) 가져오기
+     */
+    public List<ListedCompany> fetchListedCompanies() {
         log.info("📥 DART에서 상장사 목록 가져오기...");
 
-        List<String> corpCodes = new ArrayList<>();
+        List<ListedCompany> companies = new ArrayList<>();
 
         try {
-            WebClient webClient = webClientBuilder.baseUrl(dartBaseUrl).build();
+            URI uri = new DefaultUriBuilderFactory(dartBaseUrl).builder()
+                    .path("/corpCode.xml")
+                    .queryParam("crtfc_key", dartApiKey)
+                    .build();
 
-            byte[] zipData = webClient.get()
-                    .uri(ub -> ub.path("/corpCode.xml")
-                            .queryParam("crtfc_key", dartApiKey)
-                            .build())
-                    .retrieve()
-                    .bodyToMono(byte[].class)
-                    .block();
+            byte[] zipData = responseCache.get(uri, corpCodesTtl).orElse(null);
+            if (zipData == null) {
+                zipData = dartRateLimiter.call(
+                        () -> dartWebClient.get()
+                                .uri(uri)
+                                .retrieve()
+                                .bodyToMono(byte[].class)
+                                .block(),
+                        data -> false);
+                responseCache.put(uri, zipData);
+            }
 
             if (zipData == null) {
                 log.error("❌ corpCode.xml 다운로드 실패");
-                return corpCodes;
+                return companies;
             }
 
             // ZIP 압축 해제
@@ -237,10 +292,11 @@ public class DartCollectorService {
 
                                 // 상장사만 필터링 (stock_code가 6자리 숫자)
                                 if (!stockCode.isEmpty() && stockCode.matches("\\d{6}")) {
-                                    corpCodes.add(corpCode);
+                                    companies.add(new ListedCompany(corpCode,
+                                            item.path("corp_name").asText().trim(), stockCode));
                                 }
                             }
-                            log.info("✅ 총 {}개 아이템 중 {}개 상장사 발견", list.size(), corpCodes.size());
+                            log.info("✅ 총 {}개 아이템 중 {}개 상장사 발견", list.size(), companies.size());
                         }
                     }
                 }
@@ -250,185 +306,68 @@ public class DartCollectorService {
             log.error("❌ corpCode 가져오기 실패", e);
         }
 
-        return corpCodes;
+        return companies;
     }
 
     /**
-     * 🚀 전체 상장사 기부금 수집 (체크포인트 지원)
+     * 💰 특정 회사 기부금 수집 (설정된 전체 기간)
      */
-    public void collectAllListedCompanies() {
-        if (isCollecting) {
-            log.warn("⚠️ 이미 수집 작업이 진행 중입니다!");
-            return;
+    public int collectDonationData(String corpCode) {
+        List<Integer> years = new ArrayList<>();
+        for (int year = fromYear; year <= toYear; year++) {
+            years.add(year);
         }
+        return collectDonationData(corpCode, years, REPORT_ANNUAL);
+    }
 
-        isCollecting = true;
-        apiLimitReached = false;
-        consecutiveApiErrors = 0;
-        startTime = System.currentTimeMillis();
-
-        try {
-            log.info("🚀 기부금 수집 시작");
-
-            List<String> corpCodes = fetchAllCorpCodes();
-            totalCompanies.set(corpCodes.size());
-
-            // 체크포인트 로드
-            Integer startIndex = loadCheckpoint();
-            if (startIndex > 0) {
-                log.info("🔄 {}번째 회사부터 재개합니다", startIndex);
-                processedCompanies.set(startIndex);
-            } else {
-                processedCompanies.set(0);
-                successCount.set(0);
-                failureCount.set(0);
-            }
-
-            // 진행 상황 로그 초기화
-            if (startIndex == 0) {
-                saveProgressLog("=== 새로운 수집 시작 ===");
-            } else {
-                saveProgressLog(String.format("=== 수집 재개 (%d번째부터) ===", startIndex));
-            }
-
-            // 수집 시작
-            for (int i = startIndex; i < corpCodes.size(); i++) {
-                String corpCode = corpCodes.get(i);
-
-                // API 제한 체크
-                if (apiLimitReached) {
-                    log.error("🚫 API 제한 도달! 수집 중단");
-                    saveCheckpoint(i, corpCode);
-                    saveProgressLog(String.format("API 제한 - %d번째에서 중단", i));
-                    shutdownGracefully();
-                    return;
-                }
-
-                // 기부금 데이터 수집
-                boolean success = collectDonationData(corpCode, i);
-
-                // 진행 상황 로그 (10개마다)
-                if (i % 10 == 0 || !success) {
-                    double progress = getProgressPercentage();
-                    long remaining = getEstimatedTimeRemaining();
-
-                    String progressBar = createProgressBar(progress);
-                    log.info("\n{} {:.0f}%\n       처리:{}/{} | 수집:{}건(+{}) | {}",
-                            progressBar, progress,
-                            processedCompanies.get(), totalCompanies.get(),
-                            successCount.get(), success ? 1 : 0,
-                            formatTime(remaining)
-                    );
-                }
-
-                // 체크포인트 저장 (100개마다)
-                if (i % 100 == 0 && i > 0) {
-                    saveCheckpoint(i, corpCode);
-                }
-
-                // API 호출 제한 방지
-                Thread.sleep(1000);
-            }
-
-            // 수집 완료
-            deleteCheckpoint();
-            log.info("✅ 전체 수집 완료! 성공: {}, 실패: {}",
-                    successCount.get(), failureCount.get());
-            saveProgressLog(String.format(
-                    "수집 완료 - 성공: %d, 실패: %d",
-                    successCount.get(), failureCount.get()
-            ));
-
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.warn("⚠️ 수집 작업 중단됨");
-            saveProgressLog("수집 작업 강제 중단");
-        } catch (Exception e) {
-            log.error("❌ 수집 작업 중 오류", e);
-            saveProgressLog("오류 발생: " + e.getMessage());
-        } finally {
-            isCollecting = false;
-        }
+    /**
+     * 💰 특정 회사의 지정 연도/보고서 기부금 수집 (응답 캐시 사용)
+     */
+    public int collectDonationData(String corpCode, List<Integer> years, String reportCode) {
+        return collectDonationData(corpCode, years, reportCode, false);
     }
 
     /**
-     * 💰 특정 회사 기부금 수집
+     * 💰 특정 회사의 지정 연도/보고서 기부금 수집
+     *
+     * API 호출/파싱은 트랜잭션 없이 진행하고, 모은 결과만 DonationWriter 가 한 번에 저장한다.
+     *
+     * @param bypassCache true 면 재무제표 응답 캐시를 보지 않고 다시 조회 (정정/늦은 공시 반영)
      */
-    @Transactional
-    public boolean collectDonationData(String corpCode, int currentIndex) {
+    public int collectDonationData(String corpCode, List<Integer> years, String reportCode, boolean bypassCache) {
+        Integer quarter = quarterOf(reportCode);
         try {
-            processedCompanies.incrementAndGet();
-
-            WebClient webClient = webClientBuilder.baseUrl(dartBaseUrl).build();
-            ObjectMapper mapper = new ObjectMapper();
-
-            // 1. 회사 정보 조회
-            String companyJson;
-            try {
-                companyJson = webClient.get()
-                        .uri(ub -> ub.path("/api/company.json")
-                                .queryParam("crtfc_key", dartApiKey)
-                                .queryParam("corp_code", corpCode)
-                                .build())
-                        .retrieve()
-                        .bodyToMono(String.class)
-                        .block();
-            } catch (WebClientResponseException e) {
-                if (checkApiLimit(e)) {
-                    saveCheckpoint(currentIndex, corpCode);
-                    return false;
+            // 1~2. Organization 찾기 (corp_code 등록된 조직은 회사 정보 조회 생략)
+            Organization org = organizationRepository.findFirstByCorpCode(corpCode).orElse(null);
+            if (org == null) {
+                org = resolveOrganization(corpCode);
+                if (org == null) {
+                    return 0;
                 }
-                throw e;
             }
 
-            JsonNode companyInfo = mapper.readTree(companyJson);
-            if (!"000".equals(companyInfo.path("status").asText())) {
-                failureCount.incrementAndGet();
-                return false;
-            }
-
-            String corpName = companyInfo.path("corp_name").asText();
-            String stockCode = companyInfo.path("stock_code").asText();
-
-            // 2. Organization 찾기 또는 생성
-            Organization org = organizationRepository.findAll().stream()
-                    .filter(o -> o.getName().equals(corpName))
-                    .findFirst()
-                    .orElseGet(() -> {
-                        Organization newOrg = new Organization();
-                        newOrg.setName(corpName);
-                        newOrg.setType("상장사");
-                        return organizationRepository.save(newOrg);
-                    });
+            String corpName = org.getName();
+            String stockCode = org.getStockCode();
 
-            boolean foundData = false;
+            List<Donation> fetched = new ArrayList<>();
 
             // 3. 연도별 기부금 데이터 수집
-            for (int year = fromYear; year <= toYear; year++) {
-                final int currentYear = year;
-
+            for (int currentYear : years) {
                 try {
                     String fnlttJson;
                     try {
-                        fnlttJson = webClient.get()
-                                .uri(ub -> ub.path("/api/fnlttSinglAcnt.json")
-                                        .queryParam("crtfc_key", dartApiKey)
-                                        .queryParam("corp_code", corpCode)
-                                        .queryParam("bsns_year", String.valueOf(currentYear))
-                                        .queryParam("reprt_code", "11011") // 사업보고서
-                                        .build())
-                                .retrieve()
-                                .bodyToMono(String.class)
-                                .block();
+                        fnlttJson = getDartJson(ub -> ub.path("/api/fnlttSinglAcnt.json")
+                                .queryParam("crtfc_key", dartApiKey)
+                                .queryParam("corp_code", corpCode)
+                                .queryParam("bsns_year", String.valueOf(currentYear))
+                                .queryParam("reprt_code", reportCode)
+                                .build(), bypassCache ? Duration.ZERO : financialsTtl(currentYear));
                     } catch (WebClientResponseException e) {
-                        if (checkApiLimit(e)) {
-                            saveCheckpoint(currentIndex, corpCode);
-                            return false;
-                        }
+                        log.debug("  {}년 조회 실패: {}", currentYear, e.getStatusCode());
                         continue;
                     }
 
-                    JsonNode fnlttData = mapper.readTree(fnlttJson);
+                    JsonNode fnlttData = objectMapper.readTree(fnlttJson);
                     if (!"000".equals(fnlttData.path("status").asText())) {
                         continue;
                     }
@@ -463,97 +402,93 @@ public class DartCollectorService {
                                 continue;
                             }
 
-                            // 기부금 저장
-                            Donation donation = donationRepository
-                                    .findByOrganization_IdAndYearAndQuarter(org.getId(), currentYear, null)
-                                    .orElse(new Donation());
-
+                            Donation donation = new Donation();
                             donation.setOrganization(org);
                             donation.setOrganizationName(corpName);
                             donation.setStockCode(stockCode);
                             donation.setYear(currentYear);
-                            donation.setQuarter(null);
+                            donation.setQuarter(quarter);
                             donation.setDonationAmount(amount);
                             donation.setDataSource("DART_API");
-                            donation.setReportType("사업보고서");
+                            donation.setReportType(reportNameOf(reportCode));
                             donation.setVerificationStatus("자동수집");
 
-                            donationRepository.save(donation);
-                            foundData = true;
+                            fetched.add(donation);
 
                             log.debug("  ✅ {} {}년: {} 원", corpName, currentYear,
-                                    String.format("%,d", amount));
+                                    String.format("%,d", amount.toBigInteger()));
                             break;
                         }
                     }
 
-                    Thread.sleep(200); // API 제한 방지
-
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    return false;
+                } catch (QuotaExceededException e) {
+                    throw e;
                 } catch (Exception e) {
                     log.trace("  {}년 처리 실패", currentYear);
                 }
             }
 
-            if (foundData) {
-                successCount.incrementAndGet();
-                consecutiveApiErrors = 0; // 성공 시 에러 카운트 리셋
-                return true;
-            } else {
-                failureCount.incrementAndGet();
-                return false;
-            }
+            // 5. 기부금 저장 (짧은 트랜잭션 하나)
+            return donationWriter.upsert(fetched);
 
+        } catch (QuotaExceededException e) {
+            throw e;
         } catch (Exception e) {
-            failureCount.incrementAndGet();
             log.trace("회사 수집 실패: {}", e.getMessage());
-            return false;
+            throw new RuntimeException("DART collection failed for " + corpCode + ": " + e.getMessage(), e);
         }
     }
 
     /**
-     * 📊 진행률 계산
+     * 🏢 회사 정보 조회 후 Organization 찾기 또는 생성 (corp_code, stock_code 기록)
      */
-    public double getProgressPercentage() {
-        if (totalCompanies.get() == 0) return 0.0;
-        return (processedCompanies.get() * 100.0) / totalCompanies.get();
-    }
+    private Organization resolveOrganization(String corpCode) throws Exception {
+        String companyJson = getDartJson(ub -> ub.path("/api/company.json")
+                .queryParam("crtfc_key", dartApiKey)
+                .queryParam("corp_code", corpCode)
+                .build(), companyTtl);
+
+        JsonNode companyInfo = objectMapper.readTree(companyJson);
+        if (!"000".equals(companyInfo.path("status").asText())) {
+            return null;
+        }
 
-    /**
-     * ⏱️ 예상 남은 시간 계산 (초)
-     */
-    public long getEstimatedTimeRemaining() {
-        if (!isCollecting || processedCompanies.get() == 0) return 0;
+        String corpName = companyInfo.path("corp_name").asText();
+        String stockCode = companyInfo.path("stock_code").asText();
 
-        long elapsed = System.currentTimeMillis() - startTime;
-        int remaining = totalCompanies.get() - processedCompanies.get();
-        long avgTimePerCompany = elapsed / processedCompanies.get();
+        Organization org = organizationRepository.findFirstByName(corpName)
+                .orElseGet(() -> {
+                    Organization newOrg = new Organization();
+                    newOrg.setName(corpName);
+                    newOrg.setType("상장사");
+                    return newOrg;
+                });
 
-        return (avgTimePerCompany * remaining) / 1000;
+        org.setCorpCode(corpCode);
+        if (org.getStockCode() == null && stockCode.matches("\\d{6}")) {
+            org.setStockCode(stockCode);
+        }
+        return organizationRepository.save(org);
     }
 
     /**
-     * 🎨 진행 바 생성
+     * 보고서 코드 → 분기 (사업보고서는 연간 데이터로 null)
      */
-    private String createProgressBar(double percentage) {
-        int barLength = 50;
-        int filled = (int) (barLength * percentage / 100);
-        StringBuilder bar = new StringBuilder("[");
-        bar.append("█".repeat(Math.max(0, filled)));
-        bar.append("░".repeat(Math.max(0, barLength - filled)));
-        bar.append("]");
-        return bar.toString();
+    private Integer quarterOf(String reportCode) {
+        return switch (reportCode) {
+            case REPORT_Q1 -> 1;
+            case REPORT_HALF -> 2;
+            case REPORT_Q3 -> 3;
+            default -> null;
+        };
     }
 
-    /**
-     * ⏰ 시간 포맷팅 (초 -> HH:MM:SS)
-     */
-    private String formatTime(long seconds) {
-        long hours = seconds / 3600;
-        long minutes = (seconds % 3600) / 60;
-        long secs = seconds % 60;
-        return String.format("%02d:%02d:%02d", hours, minutes, secs);
+    private String reportNameOf(String reportCode) {
+        return switch (reportCode) {
+            case REPORT_Q1 -> "1분기보고서";
+            case REPORT_HALF -> "반기보고서";
+            case REPORT_Q3 -> "3분기보고서";
+            default -> "사업보고서";
+        };
     }
-}
\ No newline at end of file
+}
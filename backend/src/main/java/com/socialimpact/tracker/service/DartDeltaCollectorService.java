@@ -0,0 +1,41 @@
+package com.socialimpact.tracker.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 공시 기반 증분 수집 작업 (DartFilingWatcherService 가 생성)
+ *
+ * 전체 수집(DART_DONATION)과 작업 유형을 나눠, 미완료 작업 재개나 진행 중 확인이 서로 섞이지 않게 한다.
+ * 항목은 "corp_code:연도:보고서코드" 이고 처리는 DartCollectorService 에 맡긴다 (정정/늦은 공시라 캐시 없이 조회).
+ */
+@Service
+@RequiredArgsConstructor
+public class DartDeltaCollectorService implements IngestJobHandler {
+
+    public static final String JOB_TYPE = "DART_DONATION_DELTA";
+
+    private final DartCollectorService dartCollectorService;
+
+    @Override
+    public String getJobType() {
+        return JOB_TYPE;
+    }
+
+    /**
+     * 작업 항목 = 공시에서 뽑은 항목 (params.items, 쉼표 구분)
+     */
+    @Override
+    public List<String> planItems(Map<String, String> params) {
+        String items = params.getOrDefault("items", "");
+        return items.isBlank() ? List.of() : List.of(items.split(","));
+    }
+
+    @Override
+    public int processItem(String itemKey, Map<String, String> params) {
+        return dartCollectorService.processItem(itemKey, params);
+    }
+}
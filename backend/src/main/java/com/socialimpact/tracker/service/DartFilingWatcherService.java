@@ -0,0 +1,204 @@
+package com.socialimpact.tracker.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.socialimpact.tracker.entity.IngestJob;
+import com.socialimpact.tracker.entity.IngestWatermark;
+import com.socialimpact.tracker.repository.IngestWatermarkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 공시 목록(list.json) 기반 기부금 증분 수집
+ *
+ * 마지막 처리일(watermark) 이후 정기공시(pblntf_ty=A)만 훑어서 사업/반기/분기보고서를 낸 회사만
+ * DART_DONATION_DELTA 작업으로 넘긴다. 전체 상장사를 다시 확인하지 않아도 하루 몇 번의 API 호출로 최신화된다.
+ *
+ * 전체 수집이나 다른 증분 수집이 진행 중이면 건너뛴다 (watermark 도 그대로 두어 다음 실행에서 같은 구간을 본다).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DartFilingWatcherService {
+
+    public static final String WATERMARK_NAME = "DART_FILING_LIST";
+
+    private static final DateTimeFormatter DART_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final int PAGE_COUNT = 100;
+    private static final int MAX_RANGE_DAYS = 90; // corp_code 없이 검색 가능한 최대 기간 (3개월)
+    private static final Pattern REPORT_PERIOD = Pattern.compile("\\((\\d{4})\\.(\\d{2})\\)");
+
+    private final IngestWatermarkRepository watermarkRepository;
+    private final IngestJobService ingestJobService;
+    private final DartCollectorService dartCollectorService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${opendart.api-key}")
+    private String dartApiKey;
+
+    @Value("${ingest.donation.delta.enabled:false}")
+    private boolean enabled;
+
+    @Value("${ingest.donation.delta.initial-lookback-days:7}")
+    private int initialLookbackDays;
+
+    /**
+     * 매일 정해진 시각에 증분 수집 (ingest.donation.delta.enabled=true 일 때)
+     */
+    @Scheduled(cron = "${ingest.donation.delta.cron:0 0 7 * * *}", zone = "Asia/Seoul")
+    public void scheduledRefresh() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.error("❌ 공시 기반 증분 수집 실패", e);
+        }
+    }
+
+    /**
+     * 전체 수집 또는 증분 수집이 진행 중인지
+     */
+    public boolean isCollecting() {
+        return ingestJobService.isRunning(DartCollectorService.JOB_TYPE)
+                || ingestJobService.isRunning(DartDeltaCollectorService.JOB_TYPE);
+    }
+
+    /**
+     * watermark 이후 공시를 조회해 수집 작업 생성 - 생성된 작업 (대상이 없거나 수집 중이면 empty)
+     */
+    public Optional<IngestJob> refresh() {
+        if (isCollecting()) {
+            log.info("⏭️ DART 수집 작업이 진행 중이라 공시 증분 확인을 건너뜁니다");
+            return Optional.empty();
+        }
+
+        LocalDate today = LocalDate.now(IngestJobHandler.QUOTA_ZONE);
+        LocalDate from = loadWatermark().orElse(today.minusDays(initialLookbackDays));
+
+        Set<String> items = new LinkedHashSet<>();
+        int apiCalls = 0;
+
+        try {
+            // 3개월 단위로 나눠서 조회
+            for (LocalDate begin = from; !begin.isAfter(today); begin = begin.plusDays(MAX_RANGE_DAYS)) {
+                LocalDate end = begin.plusDays(MAX_RANGE_DAYS - 1);
+                if (end.isAfter(today)) {
+                    end = today;
+                }
+
+                int totalPages = 1;
+                for (int page = 1; page <= totalPages; page++) {
+                    JsonNode root = fetchFilingPage(begin, end, page);
+                    apiCalls++;
+
+                    if (!"000".equals(root.path("status").asText())) {
+                        break; // 013: 조회된 데이터 없음
+                    }
+
+                    totalPages = root.path("total_page").asInt(1);
+                    for (JsonNode filing : root.path("list")) {
+                        toWorkItem(filing).ifPresent(items::add);
+                    }
+                }
+            }
+        } catch (QuotaExceededException e) {
+            log.warn("🚫 공시 목록 조회 중 API 한도 초과, watermark 유지: {}", e.getMessage());
+            return Optional.empty();
+        } catch (WebClientResponseException e) {
+            log.error("❌ 공시 목록 조회 실패: {}", e.getMessage());
+            return Optional.empty();
+        } catch (Exception e) {
+            log.error("❌ 공시 목록 처리 실패", e);
+            return Optional.empty();
+        }
+
+        log.info("📰 공시 증분 확인 ({} ~ {}): API {}회, 수집 대상 {}건", from, today, apiCalls, items.size());
+
+        // 작업이 저장된 뒤에만 watermark 를 옮긴다 (작업 생성이 실패하면 다음 실행에서 같은 구간을 다시 본다)
+        Optional<IngestJob> job = items.isEmpty()
+                ? Optional.empty()
+                : Optional.of(ingestJobService.start(DartDeltaCollectorService.JOB_TYPE, Map.of(
+                        "items", String.join(",", items),
+                        "source", "filing-delta",
+                        "from", from.toString()
+                )));
+
+        // 오늘 공시는 계속 추가되므로 다음 실행에서 오늘부터 다시 확인 (수집은 upsert 라 중복 무해)
+        saveWatermark(today);
+        return job;
+    }
+
+    public Optional<LocalDate> loadWatermark() {
+        return watermarkRepository.findById(WATERMARK_NAME)
+                .map(IngestWatermark::getValue)
+                .map(LocalDate::parse);
+    }
+
+    private void saveWatermark(LocalDate date) {
+        IngestWatermark watermark = watermarkRepository.findById(WATERMARK_NAME)
+                .orElseGet(() -> {
+                    IngestWatermark created = new IngestWatermark();
+                    created.setName(WATERMARK_NAME);
+                    return created;
+                });
+        watermark.setValue(date.toString());
+        watermarkRepository.save(watermark);
+    }
+
+    private JsonNode fetchFilingPage(LocalDate begin, LocalDate end, int page) throws Exception {
+        String json = dartCollectorService.getDartJson(ub -> ub.path("/api/list.json")
+                .queryParam("crtfc_key", dartApiKey)
+                .queryParam("bgn_de", begin.format(DART_DATE))
+                .queryParam("end_de", end.format(DART_DATE))
+                .queryParam("pblntf_ty", "A") // 정기공시
+                .queryParam("page_no", page)
+                .queryParam("page_count", PAGE_COUNT)
+                .build(), Duration.ZERO); // 오늘 공시는 계속 늘어나므로 캐시하지 않음
+        return objectMapper.readTree(json);
+    }
+
+    /**
+     * 공시 한 건 → "corp_code:연도:보고서코드" (상장사의 사업/반기/분기보고서만)
+     */
+    private Optional<String> toWorkItem(JsonNode filing) {
+        String stockCode = filing.path("stock_code").asText("").trim();
+        if (stockCode.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String reportName = filing.path("report_nm").asText("");
+        Matcher period = REPORT_PERIOD.matcher(reportName);
+        if (!period.find()) {
+            return Optional.empty();
+        }
+        int year = Integer.parseInt(period.group(1));
+        int month = Integer.parseInt(period.group(2));
+
+        String reportCode;
+        if (reportName.contains("사업보고서")) {
+            reportCode = DartCollectorService.REPORT_ANNUAL;
+        } else if (reportName.contains("반기보고서")) {
+            reportCode = DartCollectorService.REPORT_HALF;
+        } else if (reportName.contains("분기보고서")) {
+            reportCode = month <= 3 ? DartCollectorService.REPORT_Q1 : DartCollectorService.REPORT_Q3;
+        } else {
+            return Optional.empty();
+        }
+
+        String corpCode = filing.path("corp_code").asText().trim();
+        return Optional.of(corpCode + ":" + year + ":" + reportCode);
+    }
+}
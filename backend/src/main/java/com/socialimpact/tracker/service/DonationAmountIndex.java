@@ -0,0 +1,58 @@
+package com.socialimpact.tracker.service;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * (organization_id, year, quarter) → 현재 기부금 금액
+ *
+ * CSV 일괄 업로드 전에 DB 값을 한 번 읽어 두고, "더 큰 금액 유지" 병합을 메모리에서 한다.
+ * 여러 파일을 동시에 처리하므로 키 단위로 원자적으로 갱신한다.
+ */
+public final class DonationAmountIndex {
+
+    private final ConcurrentHashMap<Long, BigDecimal> amounts;
+
+    private DonationAmountIndex(ConcurrentHashMap<Long, BigDecimal> amounts) {
+        this.amounts = amounts;
+    }
+
+    /**
+     * [organizationId, year, quarter, amount] 행 목록으로 생성
+     */
+    public static DonationAmountIndex of(List<Object[]> rows) {
+        ConcurrentHashMap<Long, BigDecimal> amounts = new ConcurrentHashMap<>(Math.max(16, rows.size() * 2));
+        for (Object[] row : rows) {
+            if (row[0] == null || row[1] == null || row[3] == null) {
+                continue;
+            }
+            long key = DonationKeySet.encode(((Number) row[0]).longValue(), ((Number) row[1]).intValue(), (Integer) row[2]);
+            amounts.merge(key, (BigDecimal) row[3], DonationAmountIndex::max);
+        }
+        return new DonationAmountIndex(amounts);
+    }
+
+    /**
+     * 금액 반영 - 새 키이거나 기존보다 클 때만 true (= DB 에 써야 함)
+     */
+    public boolean offer(long organizationId, int year, Integer quarter, BigDecimal amount) {
+        boolean[] improved = {false};
+        amounts.compute(DonationKeySet.encode(organizationId, year, quarter), (key, current) -> {
+            if (current == null || amount.compareTo(current) > 0) {
+                improved[0] = true;
+                return amount;
+            }
+            return current;
+        });
+        return improved[0];
+    }
+
+    public int size() {
+        return amounts.size();
+    }
+
+    private static BigDecimal max(BigDecimal a, BigDecimal b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+}
@@ -9,91 +9,217 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class DonationCollectorService {
+public class DonationCollectorService implements IngestJobHandler {
+
+    public static final String JOB_TYPE = "DONATION_CSV_UPLOAD";
+
+    // 메모리에서 이미 "더 큰 금액"만 골라 쓰지만, 동시에 들어온 다른 업로드와도 안전하도록 MAX 병합
+    private static final UpsertSpec<Donation> CSV_SPEC =
+            UpsertSpecs.donations(UpsertSpec.MergeMode.MAX, UpsertSpec.MergeMode.INSERT_ONLY);
+
+    private static final int READ_BUFFER_SIZE = 1 << 16;
 
     private final OrganizationRepository organizationRepository;
     private final DonationRepository donationRepository;
+    private final CompanyNameNormalizer companyNameNormalizer;
+    private final BulkUpsertService bulkUpsertService;
+    private final ThreadPoolTaskExecutor fileParseExecutor;
+    private final UploadSpool uploadSpool;
+    private final IngestFingerprintService fingerprints;
+
+    private volatile Map<String, Organization> orgCache = null;
 
-    private Map<String, Organization> orgCache = null;
+    // 회사명 → 매칭 결과 (부분 매칭 전체 탐색을 이름당 한 번만)
+    private final Map<String, Optional<Organization>> resolvedNames = new ConcurrentHashMap<>();
+
+    @Override
+    public String getJobType() {
+        return JOB_TYPE;
+    }
+
+    /**
+     * 작업 항목 = 업로드 한 건 (파일들은 processItem 안에서 동시에 처리)
+     *
+     * 다시 실행해도 금액이 커진 행만 기록하므로 중단된 업로드를 처음부터 재처리해도 안전하다.
+     */
+    @Override
+    public List<String> planItems(Map<String, String> params) {
+        return List.of(params.get("spoolId"));
+    }
+
+    @Override
+    public int processItem(String spoolId, Map<String, String> params) {
+        try {
+            List<Path> files = uploadSpool.files(spoolId);
+            UploadProgress progress = uploadSpool.start(spoolId, files);
+
+            boolean force = Boolean.parseBoolean(params.get("force"));
+            Map<String, Object> result = processDonationFiles(files, progress, force);
+            progress.markFinished();
+
+            // 읽지 못한 파일이 있으면 항목을 실패로 두고 보관 파일을 남긴다 (재개 시 성공한 파일은 해시로 건너뜀)
+            List<?> errors = (List<?>) result.get("errors");
+            if (!errors.isEmpty()) {
+                throw new IllegalStateException(errors.size() + " file(s) failed: " + errors.get(0));
+            }
+            uploadSpool.discard(spoolId);
+            return (int) result.get("writtenCount");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Map<String, Object> describeProgress(Map<String, String> params) {
+        return uploadSpool.describe(params.get("spoolId"));
+    }
 
     /**
      * 여러 CSV 파일을 한 번에 처리
+     *
+     * 기존 기부금 키/금액을 한 번 읽어 두고, 파일은 fileParseExecutor 에서 동시에 스트리밍으로 읽는다.
+     * 금액이 늘어난 행만 청크 단위로 upsert 한다.
+     *
+     * 이미 반영한 파일(SHA-256 일치)은 통째로, 이미 반영한 행(행 해시 일치)은 한 줄씩 건너뛴다.
+     * force 면 해시 기록을 무시하고 전부 다시 읽는다.
      */
-    @Transactional
-    public Map<String, Object> processDonationFiles(List<MultipartFile> files) {
+    public Map<String, Object> processDonationFiles(List<Path> files, UploadProgress progress, boolean force) {
         log.info("🚀 Starting donation CSV files processing... Total files: {}", files.size());
+        long startedAt = System.currentTimeMillis();
 
         loadOrganizationCache();
 
+        DonationAmountIndex amounts = DonationAmountIndex.of(donationRepository.findAllKeyAmounts());
+        log.info("📋 Preloaded {} donation keys", amounts.size());
+
+        IngestFingerprintService.RowHashes appliedRows =
+                force ? IngestFingerprintService.RowHashes.EMPTY : fingerprints.loadRowHashes(JOB_TYPE);
+
+        List<Future<Map<String, Object>>> futures = new ArrayList<>(files.size());
+        for (Path file : files) {
+            futures.add(fileParseExecutor.submit(() -> {
+                String filename = UploadSpool.originalName(file);
+                log.info("📄 Processing file: {}", filename);
+
+                // 파일명에서 연도 추출 (예: "기부금_2023.csv" -> 2023)
+                String sha256 = fingerprints.sha256(file);
+                if (!force && fingerprints.isKnownFile(JOB_TYPE, sha256)) {
+                    log.info("⏭️  {} already ingested (sha256 {}), skipping", filename, sha256.substring(0, 12));
+                    return null;
+                }
+
+                Integer fileYear = extractYearFromFilename(filename);
+                Map<String, Object> result = processSingleCsvFile(file, filename, fileYear, amounts, appliedRows, progress);
+                // 회사를 못 찾았거나 실패한 행이 있으면 파일 해시를 남기지 않는다 - 조직이 생긴 뒤 같은 파일을 다시 올리면 그 행을 반영
+                if ((int) result.get("failureCount") == 0 && (int) result.get("skippedNoOrg") == 0) {
+                    fingerprints.recordFile(JOB_TYPE, sha256, filename, Files.size(file), (int) result.get("totalRows"));
+                }
+                return result;
+            }));
+        }
+
         int totalFiles = files.size();
         int totalRows = 0;
         int successCount = 0;
+        int writtenCount = 0;
         int failureCount = 0;
         int skippedNoOrg = 0;
+        int skippedFiles = 0;
+        int unchangedRows = 0;
         List<String> errors = new ArrayList<>();
 
-        for (MultipartFile file : files) {
+        for (int i = 0; i < files.size(); i++) {
+            String filename = UploadSpool.originalName(files.get(i));
             try {
-                log.info("📄 Processing file: {}", file.getOriginalFilename());
-
-                // 파일명에서 연도 추출 (예: "기부금_2023.csv" -> 2023)
-                Integer fileYear = extractYearFromFilename(file.getOriginalFilename());
-
-                Map<String, Object> result = processSingleCsvFile(file, fileYear);
+                Map<String, Object> result = futures.get(i).get();
+                if (result == null) {
+                    skippedFiles++;
+                    continue;
+                }
 
                 totalRows += (int) result.get("totalRows");
                 successCount += (int) result.get("successCount");
+                writtenCount += (int) result.get("writtenCount");
                 failureCount += (int) result.get("failureCount");
                 skippedNoOrg += (int) result.get("skippedNoOrg");
-
-            } catch (Exception e) {
-                log.error("❌ Error processing file: {}", file.getOriginalFilename(), e);
-                errors.add(String.format("File %s: %s", file.getOriginalFilename(), e.getMessage()));
+                unchangedRows += (int) result.get("unchangedRows");
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(future -> future.cancel(true));
+                throw new RuntimeException("Donation CSV processing interrupted", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                log.error("❌ Error processing file: {}", filename, cause);
+                errors.add(String.format("File %s: %s", filename, cause.getMessage()));
+                progress.error(String.format("File %s: %s", filename, cause.getMessage()));
             }
         }
 
-        log.info("✅ All files processed! Total: {}, Success: {}, Failed: {}, Skipped: {}",
-                totalRows, successCount, failureCount, skippedNoOrg);
+        long elapsedMs = System.currentTimeMillis() - startedAt;
+        log.info("✅ All files processed in {}ms! Total: {}, Success: {}, Written: {}, Failed: {}, Skipped: {}, "
+                        + "Unchanged files: {}, Unchanged rows: {}",
+                elapsedMs, totalRows, successCount, writtenCount, failureCount, skippedNoOrg,
+                skippedFiles, unchangedRows);
 
         return Map.of(
                 "totalFiles", totalFiles,
+                "skippedFiles", skippedFiles,
                 "totalRows", totalRows,
+                "unchangedRows", unchangedRows,
                 "successCount", successCount,
+                "writtenCount", writtenCount,
                 "failureCount", failureCount,
                 "skippedNoOrganization", skippedNoOrg,
+                "elapsedMs", elapsedMs,
                 "errors", errors
         );
     }
 
     /**
-     * 단일 CSV 파일 처리
+     * 단일 CSV 파일 처리 (스트리밍) - 금액이 새로 생기거나 커진 행만 기록
+     *
+     * 읽은 행의 해시는 파일 기록이 모두 끝난 뒤에 저장한다 (중간에 실패하면 다음 업로드에서 다시 반영).
      */
-    @Transactional
-    public Map<String, Object> processSingleCsvFile(MultipartFile file, Integer defaultYear) {
+    private Map<String, Object> processSingleCsvFile(Path file, String filename, Integer defaultYear,
+                                                     DonationAmountIndex amounts,
+                                                     IngestFingerprintService.RowHashes appliedRows,
+                                                     UploadProgress progress) {
         int totalRows = 0;
         int successCount = 0;
+        int writtenCount = 0;
         int failureCount = 0;
         int skippedNoOrg = 0;
+        int unchangedRows = 0;
         List<String> errors = new ArrayList<>();
-
-        loadOrganizationCache();
+        List<Long> rowHashes = new ArrayList<>();
 
         try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(file.getInputStream(), "EUC-KR"))) {
+                new InputStreamReader(progress.track(Files.newInputStream(file)), "EUC-KR"), READ_BUFFER_SIZE);
+             BulkUpsertService.Session<Donation> upsert = bulkUpsertService.open(CSV_SPEC, chunk -> {
+                 progress.rowsWritten(chunk.rows());
+                 log.debug("📊 [{}] Saved chunk #{}: {} donations ({} rows/s)",
+                         filename, chunk.chunk(), chunk.rows(), Math.round(chunk.rowsPerSecond()));
+             })) {
 
             // 탭(Tab)으로 구분된 파일 지원
             CSVParser csvParser = new CSVParser(reader, CSVFormat.DEFAULT
@@ -107,11 +233,20 @@ public class DonationCollectorService {
 
             for (CSVRecord record : csvParser) {
                 totalRows++;
+                progress.rowProcessed();
+
+                long rowHash = IngestFingerprintService.rowHash(record);
+                if (appliedRows.contains(rowHash)) {
+                    unchangedRows++;
+                    continue; // 이전 업로드에서 그대로 반영된 행
+                }
 
+                Donation donation;
                 try {
                     // "기부금" 항목만 필터링
                     String itemName = getColumnValue(record, "항목명");
                     if (itemName == null || !itemName.contains("기부금")) {
+                        rowHashes.add(rowHash);
                         continue; // 기부금이 아니면 스킵
                     }
 
@@ -138,57 +273,63 @@ public class DonationCollectorService {
                     BigDecimal amount = extractDonationAmount(record);
 
                     if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+                        rowHashes.add(rowHash);
                         continue; // 금액이 없거나 0이면 스킵
                     }
 
-                    // Donation 엔티티 생성 또는 업데이트
-                    Donation donation = donationRepository
-                            .findByOrganization_IdAndYearAndQuarter(org.getId(), year, quarter)
-                            .orElse(new Donation());
-
-                    if (donation.getId() == null) {
-                        // 신규 생성
-                        donation.setOrganization(org);
-                        donation.setOrganizationName(org.getName());
-                        donation.setStockCode(stockCode);
-                        donation.setYear(year);
-                        donation.setQuarter(quarter);
-                        donation.setDonationAmount(amount);
-                        donation.setCurrency(getColumnValue(record, "통화"));
-                        donation.setReportType(reportType);
-                        donation.setFiscalMonth(parseFiscalMonth(fiscalMonth));
-                        donation.setDataSource("CSV_" + year);
-                        donation.setVerificationStatus("자동수집");
-                    } else {
-                        // 기존 데이터 업데이트 (더 큰 금액으로)
-                        if (amount.compareTo(donation.getDonationAmount()) > 0) {
-                            donation.setDonationAmount(amount);
-                        }
-                    }
-
-                    donationRepository.save(donation);
                     successCount++;
 
-                    if (successCount % 100 == 0) {
-                        log.info("📊 Processed {} donations...", successCount);
+                    // 기존(DB + 앞서 읽은 행)보다 큰 금액일 때만 기록
+                    if (!amounts.offer(org.getId(), year, quarter, amount)) {
+                        rowHashes.add(rowHash);
+                        continue;
                     }
 
+                    donation = new Donation();
+                    donation.setOrganization(org);
+                    donation.setOrganizationName(org.getName());
+                    donation.setStockCode(stockCode);
+                    donation.setYear(year);
+                    donation.setQuarter(quarter);
+                    donation.setDonationAmount(amount);
+                    donation.setCurrency(getColumnValue(record, "통화"));
+                    donation.setReportType(reportType);
+                    donation.setFiscalMonth(parseFiscalMonth(fiscalMonth));
+                    donation.setDataSource("CSV_" + year);
+                    donation.setVerificationStatus("자동수집");
+
                 } catch (Exception e) {
                     failureCount++;
                     String error = String.format("Row %d: %s", totalRows, e.getMessage());
                     errors.add(error);
+                    progress.error(filename + " " + error);
                     log.warn("⚠️  {}", error);
+                    continue;
                 }
+
+                // DB 기록 실패는 행 오류가 아니라 파일 실패로 올린다
+                upsert.add(donation);
+                rowHashes.add(rowHash);
+                writtenCount++;
             }
 
+            // 회사 매칭 실패/오류 행은 기록하지 않는다 - 다음 업로드에서 다시 시도
+            upsert.finish();
+            fingerprints.saveRowHashes(JOB_TYPE, rowHashes);
+
         } catch (IOException e) {
             log.error("❌ Error reading CSV file", e);
             throw new RuntimeException("Failed to process CSV file: " + e.getMessage());
         }
 
+        log.info("📄 {} done: {} rows, {} donations, {} written, {} unchanged",
+                filename, totalRows, successCount, writtenCount, unchangedRows);
+
         return Map.of(
                 "totalRows", totalRows,
+                "unchangedRows", unchangedRows,
                 "successCount", successCount,
+                "writtenCount", writtenCount,
                 "failureCount", failureCount,
                 "skippedNoOrg", skippedNoOrg,
                 "errors", errors
@@ -198,26 +339,27 @@ public class DonationCollectorService {
     /**
      * Organizations 캐시 로드 (GirCollectorService와 동일한 패턴)
      */
-    private void loadOrganizationCache() {
+    private synchronized void loadOrganizationCache() {
         if (orgCache != null) {
             return;
         }
 
         log.info("📋 Loading all organizations into cache...");
-        orgCache = new HashMap<>();
+        Map<String, Organization> cache = new HashMap<>();
 
         List<Organization> allOrgs = organizationRepository.findAll();
 
         for (Organization org : allOrgs) {
             // 원본 이름으로 저장
-            orgCache.put(org.getName(), org);
+            cache.put(org.getName(), org);
 
             // 정규화된 이름으로도 저장
-            String normalized = normalizeCompanyName(org.getName());
-            orgCache.put(normalized, org);
+            String normalized = companyNameNormalizer.normalize(org.getName());
+            cache.put(normalized, org);
         }
 
-        log.info("✅ Cached {} organizations ({} entries)", allOrgs.size(), orgCache.size());
+        orgCache = cache;
+        log.info("✅ Cached {} organizations ({} entries)", allOrgs.size(), cache.size());
     }
 
     /**
@@ -227,14 +369,18 @@ public class DonationCollectorService {
         if (corpName == null || corpName.isEmpty()) {
             return null;
         }
+        return resolvedNames.computeIfAbsent(corpName, name -> Optional.ofNullable(matchOrganization(name)))
+                .orElse(null);
+    }
 
+    private Organization matchOrganization(String corpName) {
         // 1. 정확히 일치
         if (orgCache.containsKey(corpName)) {
             return orgCache.get(corpName);
         }
 
         // 2. 정규화 후 매칭
-        String normalized = normalizeCompanyName(corpName);
+        String normalized = companyNameNormalizer.normalize(corpName);
         if (orgCache.containsKey(normalized)) {
             return orgCache.get(normalized);
         }
@@ -252,37 +398,6 @@ public class DonationCollectorService {
         return null;
     }
 
-    /**
-     * 회사명 정규화 (GirCollectorService와 동일)
-     */
-    private String normalizeCompanyName(String name) {
-        if (name == null || name.isEmpty()) {
-            return "";
-        }
-
-        String normalized = name;
-
-        normalized = normalized.replaceAll("주식회사", "")
-                .replaceAll("\\(주\\)", "")
-                .replaceAll("㈜", "")
-                .replaceAll("유한회사", "")
-                .replaceAll("\\(유\\)", "");
-
-        normalized = normalized.replace("SK", "에스케이")
-                .replace("LG", "엘지")
-                .replace("KT", "케이티")
-                .replace("GS", "지에스")
-                .replace("CJ", "씨제이")
-                .replace("KB", "케이비")
-                .replace("POSCO", "포스코")
-                .replace("Posco", "포스코");
-
-        normalized = normalized.replaceAll("[\\s()\\-_.,\\[\\]]", "")
-                .toLowerCase();
-
-        return normalized;
-    }
-
     /**
      * CSV 컬럼 값 가져오기
      */
@@ -0,0 +1,191 @@
+package com.socialimpact.tracker.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.socialimpact.tracker.dto.DonationImportDTO;
+import com.socialimpact.tracker.entity.Donation;
+import com.socialimpact.tracker.entity.Organization;
+import com.socialimpact.tracker.repository.OrganizationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기부금 JSON 일괄 임포트 (/api/donations/batch-import)
+ *
+ * 요청 본문 배열을 JsonParser 로 한 항목씩 읽어 DonationImportDTO 로 만들고
+ * 바로 upsert 청크에 넣는다. 본문 전체를 메모리에 올리지 않으므로 수십만 건도 일정한 메모리로 처리한다.
+ * 본문이 중간에 깨지면 버퍼에 남은 행은 버리고, 그때까지 기록한 행 수와 함께 ImportAbortedException 을 던진다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DonationImportService {
+
+    private static final int MAX_ERRORS = 100;
+
+    private static final UpsertSpec<Donation> IMPORT_SPEC =
+            UpsertSpecs.donations(UpsertSpec.MergeMode.REPLACE, UpsertSpec.MergeMode.REPLACE);
+
+    private final ObjectMapper objectMapper;
+    private final OrganizationRepository organizationRepository;
+    private final BulkUpsertService bulkUpsertService;
+
+    public Map<String, Object> importJson(InputStream body) throws IOException {
+        int total = 0;
+        int savedCount = 0;
+        int failedCount = 0;
+        List<String> errors = new ArrayList<>();
+
+        OrganizationDirectory organizations = OrganizationDirectory.load(organizationRepository);
+        log.info("📥 일괄 임포트 시작 (조직 색인 {}건)", organizations.size());
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(body);
+             BulkUpsertService.Session<Donation> upsert = bulkUpsertService.open(IMPORT_SPEC,
+                     chunk -> log.debug("📥 임포트 청크 #{}: {}건", chunk.chunk(), chunk.rows()))) {
+
+            try {
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    throw new IllegalArgumentException("요청 본문은 JSON 배열이어야 합니다.");
+                }
+
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    total++;
+                    try {
+                        DonationImportDTO item = readItem(parser);
+                        upsert.add(toDonation(item, organizations));
+                        savedCount++;
+                    } catch (IllegalArgumentException e) {
+                        failedCount++;
+                        if (errors.size() < MAX_ERRORS) {
+                            errors.add(String.format("항목 %d 처리 실패: %s", total, e.getMessage()));
+                        }
+                        log.warn("⚠️ 임포트 항목 {} 실패: {}", total, e.getMessage());
+                    }
+                }
+
+                BulkUpsertService.Result result = upsert.finish();
+                log.info("✅ 임포트 완료: 성공 {}건, 실패 {}건 ({}행/초)",
+                        savedCount, failedCount, Math.round(result.rowsPerSecond()));
+            } catch (IOException | IllegalArgumentException e) {
+                // 본문이 깨지면 남은 버퍼는 기록하지 않는다 - 이미 기록한 청크 수만 알려 준다
+                throw new ImportAbortedException(e.getMessage(), upsert.writtenRows(), e);
+            }
+        }
+
+        return Map.of(
+                "savedCount", savedCount,
+                "failedCount", failedCount,
+                "errors", errors,
+                "total", total
+        );
+    }
+
+    /**
+     * 객체 하나를 끝까지 읽는다 - 값이 잘못되면 나머지 필드를 건너뛰고 IllegalArgumentException
+     */
+    private DonationImportDTO readItem(JsonParser parser) throws IOException {
+        DonationImportDTO item = new DonationImportDTO();
+        String invalid = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            try {
+                switch (field) {
+                    case "organizationName" -> item.setOrganizationName(text(parser, value));
+                    case "stockCode" -> item.setStockCode(text(parser, value));
+                    case "year" -> item.setYear(integer(parser, value));
+                    case "quarter" -> item.setQuarter(integer(parser, value));
+                    case "donationAmount" -> item.setDonationAmount(decimal(parser, value));
+                    case "reportType" -> item.setReportType(text(parser, value));
+                    case "dataSource" -> item.setDataSource(text(parser, value));
+                    case "verificationStatus" -> item.setVerificationStatus(text(parser, value));
+                    case "currency" -> item.setCurrency(text(parser, value));
+                    default -> parser.skipChildren();
+                }
+            } catch (NumberFormatException e) {
+                parser.skipChildren();
+                if (invalid == null) {
+                    invalid = field + " 값이 올바르지 않습니다: " + e.getMessage();
+                }
+            }
+        }
+
+        if (invalid != null) {
+            throw new IllegalArgumentException(invalid);
+        }
+        return item;
+    }
+
+    private Donation toDonation(DonationImportDTO item, OrganizationDirectory organizations) {
+        if (item.getOrganizationName() == null || item.getOrganizationName().isBlank()) {
+            throw new IllegalArgumentException("organizationName 이 없습니다.");
+        }
+        if (item.getYear() == null) {
+            throw new IllegalArgumentException("year 가 없습니다.");
+        }
+        if (item.getDonationAmount() == null) {
+            throw new IllegalArgumentException("donationAmount 가 없습니다.");
+        }
+
+        Organization org = organizations.resolveOrCreate(item.getOrganizationName());
+
+        Donation donation = new Donation();
+        donation.setOrganization(org);
+        donation.setOrganizationName(item.getOrganizationName());
+        donation.setStockCode(item.getStockCode());
+        donation.setYear(item.getYear());
+        donation.setQuarter(item.getQuarter());
+        donation.setDonationAmount(item.getDonationAmount());
+        donation.setReportType(item.getReportType());
+        donation.setDataSource(item.getDataSource() != null ? item.getDataSource() : "TXT_FILE");
+        donation.setVerificationStatus(item.getVerificationStatus() != null ? item.getVerificationStatus() : "자동수집");
+        donation.setCurrency(item.getCurrency() != null ? item.getCurrency() : "KRW");
+        return donation;
+    }
+
+    private static String text(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isScalarValue()) {
+            throw new NumberFormatException("문자열이 아님");
+        }
+        return parser.getText();
+    }
+
+    private static Integer integer(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getIntValue();
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            return Integer.parseInt(parser.getText().trim());
+        }
+        throw new NumberFormatException(String.valueOf(token));
+    }
+
+    private static BigDecimal decimal(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return parser.getDecimalValue();
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            return new BigDecimal(parser.getText().replace(",", "").trim());
+        }
+        throw new NumberFormatException(String.valueOf(token));
+    }
+}
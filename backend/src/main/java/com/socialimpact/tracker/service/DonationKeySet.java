@@ -0,0 +1,70 @@
+package com.socialimpact.tracker.service;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * donations 테이블의 (organization_id, year, quarter) 키 집합
+ *
+ * 키 하나를 long 하나로 인코딩해 정렬된 배열에 보관한다 (레코드 10만 건 ≈ 800KB).
+ * quarter 가 null 인 연간 데이터는 0 으로 저장한다.
+ */
+public final class DonationKeySet {
+
+    private final long[] keys;
+
+    private DonationKeySet(long[] keys) {
+        this.keys = keys;
+    }
+
+    /**
+     * [organizationId, year, quarter] 행 목록으로 생성
+     */
+    public static DonationKeySet of(List<Object[]> rows) {
+        long[] keys = new long[rows.size()];
+        int n = 0;
+        for (Object[] row : rows) {
+            if (row[0] == null || row[1] == null) {
+                continue;
+            }
+            keys[n++] = encode(((Number) row[0]).longValue(), ((Number) row[1]).intValue(), (Integer) row[2]);
+        }
+
+        long[] sorted = Arrays.copyOf(keys, n);
+        Arrays.sort(sorted);
+        return new DonationKeySet(dedupe(sorted));
+    }
+
+    public boolean contains(long organizationId, int year, Integer quarter) {
+        return Arrays.binarySearch(keys, encode(organizationId, year, quarter)) >= 0;
+    }
+
+    /**
+     * 연간(사업보고서) 데이터 존재 여부 - DART 수집분(quarter=null) 또는 CSV 4분기/사업보고서(quarter=4)
+     */
+    public boolean containsAnnual(long organizationId, int year) {
+        return contains(organizationId, year, null) || contains(organizationId, year, 4);
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    static long encode(long organizationId, int year, Integer quarter) {
+        int q = quarter != null ? quarter : 0;
+        return (organizationId << 16) | ((long) (year & 0x1FFF) << 3) | (q & 0x7);
+    }
+
+    private static long[] dedupe(long[] sorted) {
+        if (sorted.length == 0) {
+            return sorted;
+        }
+        int n = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[n - 1]) {
+                sorted[n++] = sorted[i];
+            }
+        }
+        return n == sorted.length ? sorted : Arrays.copyOf(sorted, n);
+    }
+}
@@ -0,0 +1,35 @@
+package com.socialimpact.tracker.service;
+
+import com.socialimpact.tracker.entity.Donation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 수집된 기부금 저장 전용 (짧은 트랜잭션)
+ *
+ * 수집기는 API 호출과 파싱을 트랜잭션 밖에서 끝내고 결과만 넘긴다.
+ * DB 커넥션은 저장하는 동안만 잡는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DonationWriter {
+
+    private static final UpsertSpec<Donation> SPEC =
+            UpsertSpecs.donations(UpsertSpec.MergeMode.REPLACE, UpsertSpec.MergeMode.REPLACE);
+
+    private final BulkUpsertService bulkUpsertService;
+
+    /**
+     * (조직, 연도, 분기) 기준 upsert - 저장 건수
+     */
+    public int upsert(List<Donation> donations) {
+        if (donations.isEmpty()) {
+            return 0;
+        }
+        return bulkUpsertService.upsert(SPEC, donations).rows();
+    }
+}
@@ -0,0 +1,109 @@
+package com.socialimpact.tracker.service;
+
+import com.socialimpact.tracker.entity.Emission;
+import com.socialimpact.tracker.entity.Organization;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * GIR 사업장 행을 (조직, 연도) 단위로 합산 (업로드 한 건 동안, 단일 스레드)
+ *
+ * 배출량/에너지는 emissions 컬럼 scale(2)에 맞춘 long 고정소수점(1/100)으로 더하고,
+ * GIR 법인명은 집합으로 모은다. 합계를 REPLACE 로 쓰므로 같은 파일을 다시 올려도 두 번 더해지지 않는다.
+ *
+ * (조직, 연도)마다 구성 행 해시의 합으로 지문을 만든다 - 행 순서와 무관하고, 사업장 행이 하나라도
+ * 바뀌거나 추가/삭제되면 달라진다. 지금 저장된 지문과 같은 합계는 다시 쓸 필요가 없다.
+ */
+public final class EmissionAggregator {
+
+    private static final int SCALE = 2;
+    private static final int GIR_NAME_LENGTH = 200; // emissions.gir_company_name
+
+    private final Map<Long, Total> totals = new HashMap<>();
+
+    private static final class Total {
+        private final Organization organization;
+        private final int year;
+        private final Set<String> girNames = new LinkedHashSet<>();
+        private long emissions;
+        private long energy;
+        private long rowHashSum;
+        private String industry;
+
+        private Total(Organization organization, int year) {
+            this.organization = organization;
+            this.year = year;
+        }
+    }
+
+    /**
+     * 합산 결과 하나 - 기록할 Emission 과 구성 행들의 지문
+     */
+    public record Aggregate(Emission emission, long fingerprint) {
+    }
+
+    public void add(Organization organization, int year, String girName, String industry,
+                    BigDecimal emissions, BigDecimal energy, long rowHash) {
+        long key = (organization.getId() << 16) | (year & 0xFFFF);
+        Total total = totals.computeIfAbsent(key, k -> new Total(organization, year));
+
+        total.emissions = Math.addExact(total.emissions, toFixed(emissions));
+        total.energy = Math.addExact(total.energy, toFixed(energy));
+        total.rowHashSum += rowHash;
+        total.girNames.add(girName);
+        if (total.industry == null && industry != null && !industry.isBlank()) {
+            total.industry = industry;
+        }
+    }
+
+    public int size() {
+        return totals.size();
+    }
+
+    /**
+     * 합산 결과 (조직-연도당 Emission 하나)
+     */
+    public List<Aggregate> results() {
+        List<Aggregate> results = new ArrayList<>(totals.size());
+        for (Map.Entry<Long, Total> entry : totals.entrySet()) {
+            Total total = entry.getValue();
+            Emission emission = new Emission();
+            emission.setOrganization(total.organization);
+            emission.setOrganizationName(total.organization.getName());
+            emission.setGirCompanyName(joinNames(total.girNames));
+            emission.setYear(total.year);
+            emission.setTotalEmissions(BigDecimal.valueOf(total.emissions, SCALE));
+            emission.setEnergyUsage(BigDecimal.valueOf(total.energy, SCALE));
+            emission.setIndustry(total.industry);
+            emission.setDataSource("GIR");
+            emission.setVerificationStatus("검증완료");
+            results.add(new Aggregate(emission, fingerprint(entry.getKey(), total.rowHashSum)));
+        }
+        return results;
+    }
+
+    // 키와 행 해시 합을 섞는다 (다른 회사-연도의 같은 합과 겹치지 않도록)
+    private static long fingerprint(long key, long rowHashSum) {
+        long h = rowHashSum ^ (key * 0x9E3779B97F4A7C15L);
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static long toFixed(BigDecimal value) {
+        return value == null ? 0 : value.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static String joinNames(Set<String> names) {
+        String joined = String.join(", ", names);
+        return joined.length() > GIR_NAME_LENGTH ? joined.substring(0, GIR_NAME_LENGTH) : joined;
+    }
+}
@@ -0,0 +1,238 @@
+package com.socialimpact.tracker.service;
+
+import org.apache.poi.hssf.eventusermodel.FormatTrackingHSSFListener;
+import org.apache.poi.hssf.eventusermodel.HSSFEventFactory;
+import org.apache.poi.hssf.eventusermodel.HSSFListener;
+import org.apache.poi.hssf.eventusermodel.HSSFRequest;
+import org.apache.poi.hssf.eventusermodel.MissingRecordAwareHSSFListener;
+import org.apache.poi.hssf.eventusermodel.dummyrecord.LastCellOfRowDummyRecord;
+import org.apache.poi.hssf.record.BOFRecord;
+import org.apache.poi.hssf.record.BoolErrRecord;
+import org.apache.poi.hssf.record.DimensionsRecord;
+import org.apache.poi.hssf.record.FormulaRecord;
+import org.apache.poi.hssf.record.LabelSSTRecord;
+import org.apache.poi.hssf.record.NumberRecord;
+import org.apache.poi.hssf.record.SSTRecord;
+import org.apache.poi.hssf.record.StringRecord;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.poifs.filesystem.FileMagic;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * 엑셀 첫 번째 시트를 행 단위로 스트리밍해서 읽는다 (.xlsx: SAX, .xls: HSSF 이벤트 API)
+ *
+ * WorkbookFactory 처럼 시트 전체를 객체로 만들지 않으므로 시트 크기와 관계없이 메모리가 일정하다.
+ * 셀 값은 화면에 보이는 형식 그대로의 문자열이고, 수식은 저장된 계산 결과를 쓴다.
+ * 압축된 파일이라 읽은 바이트로는 진행률을 알 수 없으므로, 시트에 적힌 범위(dimension)의 행 수를 따로 알려 준다.
+ */
+public final class ExcelEventReader {
+
+    /**
+     * 행 하나 (rowNum 은 0부터, cells 는 열 순서대로 빈 셀은 "")
+     */
+    public record SheetRow(int rowNum, List<String> cells) {
+        public String cell(int column) {
+            return column < cells.size() ? cells.get(column) : "";
+        }
+    }
+
+    private ExcelEventReader() {
+    }
+
+    public static void read(Path file, Consumer<SheetRow> rows) throws IOException {
+        read(file, rows, rowCount -> {
+        });
+    }
+
+    /**
+     * rowCount 는 첫 행보다 먼저, 시트 범위에서 읽은 행 수로 한 번 호출된다 (범위가 없으면 호출되지 않음)
+     */
+    public static void read(Path file, Consumer<SheetRow> rows, IntConsumer rowCount) throws IOException {
+        FileMagic magic = FileMagic.valueOf(file.toFile());
+        if (magic == FileMagic.OOXML) {
+            readXlsx(file, rows, rowCount);
+        } else if (magic == FileMagic.OLE2) {
+            readXls(file, rows, rowCount);
+        } else {
+            throw new IOException("Unsupported Excel file format: " + magic);
+        }
+    }
+
+    private static void readXlsx(Path file, Consumer<SheetRow> rows, IntConsumer rowCount) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = reader.getStylesTable();
+
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                return;
+            }
+
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                        styles, strings, new RowCollector(rows), new DataFormatter(), false) {
+                    @Override
+                    public void startElement(String uri, String localName, String qName, Attributes attributes)
+                            throws SAXException {
+                        // <dimension ref="A1:H12345"/> 는 sheetData 보다 앞에 온다
+                        if ("dimension".equals(localName)) {
+                            String ref = attributes.getValue("ref");
+                            if (ref != null && ref.contains(":")) {
+                                rowCount.accept(new CellReference(ref.substring(ref.indexOf(':') + 1)).getRow() + 1);
+                            }
+                        }
+                        super.startElement(uri, localName, qName, attributes);
+                    }
+                });
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("Failed to read xlsx: " + e.getMessage(), e);
+        }
+    }
+
+    private static void readXls(Path file, Consumer<SheetRow> rows, IntConsumer rowCount) throws IOException {
+        try (POIFSFileSystem fs = new POIFSFileSystem(file.toFile(), true)) {
+            HssfRowListener listener = new HssfRowListener(rows, rowCount);
+            FormatTrackingHSSFListener formats = new FormatTrackingHSSFListener(new MissingRecordAwareHSSFListener(listener));
+            listener.formats = formats;
+
+            HSSFRequest request = new HSSFRequest();
+            request.addListenerForAllRecords(formats);
+            new HSSFEventFactory().processWorkbookEvents(request, fs);
+        }
+    }
+
+    /**
+     * XSSF SAX 이벤트 → SheetRow
+     */
+    private static final class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final Consumer<SheetRow> rows;
+        private List<String> cells = new ArrayList<>();
+
+        RowCollector(Consumer<SheetRow> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            cells = new ArrayList<>();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            rows.accept(new SheetRow(rowNum, cells));
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = new CellReference(cellReference).getCol();
+            while (cells.size() < column) {
+                cells.add("");
+            }
+            cells.add(formattedValue != null ? formattedValue : "");
+        }
+    }
+
+    /**
+     * HSSF 레코드 이벤트 → SheetRow (첫 번째 워크시트만)
+     */
+    private static final class HssfRowListener implements HSSFListener {
+
+        private final Consumer<SheetRow> rows;
+        private final IntConsumer rowCount;
+        private FormatTrackingHSSFListener formats;
+
+        private SSTRecord sharedStrings;
+        private int sheetIndex = -1;
+        private int currentRow = -1;
+        private List<String> cells = new ArrayList<>();
+        private int pendingStringColumn = -1;
+
+        HssfRowListener(Consumer<SheetRow> rows, IntConsumer rowCount) {
+            this.rows = rows;
+            this.rowCount = rowCount;
+        }
+
+        @Override
+        public void processRecord(org.apache.poi.hssf.record.Record record) {
+            if (record instanceof BOFRecord bof) {
+                if (bof.getType() == BOFRecord.TYPE_WORKSHEET) {
+                    sheetIndex++;
+                }
+                return;
+            }
+            if (record instanceof SSTRecord sst) {
+                sharedStrings = sst;
+                return;
+            }
+            if (sheetIndex != 0) {
+                return;
+            }
+
+            if (record instanceof DimensionsRecord dimensions) {
+                rowCount.accept(dimensions.getLastRow()); // 마지막 행 + 1
+            } else if (record instanceof LabelSSTRecord label) {
+                set(label.getRow(), label.getColumn(),
+                        sharedStrings != null ? sharedStrings.getString(label.getSSTIndex()).getString() : "");
+            } else if (record instanceof NumberRecord number) {
+                set(number.getRow(), number.getColumn(), formats.formatNumberDateCell(number));
+            } else if (record instanceof BoolErrRecord bool && bool.isBoolean()) {
+                set(bool.getRow(), bool.getColumn(), String.valueOf(bool.getBooleanValue()));
+            } else if (record instanceof FormulaRecord formula) {
+                if (formula.getCachedResultTypeEnum() == CellType.STRING) {
+                    // 문자열 결과는 바로 뒤 StringRecord 에 있다
+                    currentRow = formula.getRow();
+                    pendingStringColumn = formula.getColumn();
+                } else if (formula.getCachedResultTypeEnum() == CellType.NUMERIC) {
+                    set(formula.getRow(), formula.getColumn(), formats.formatNumberDateCell(formula));
+                } else if (formula.getCachedResultTypeEnum() == CellType.BOOLEAN) {
+                    set(formula.getRow(), formula.getColumn(), String.valueOf(formula.getCachedBooleanValue()));
+                }
+            } else if (record instanceof StringRecord string && pendingStringColumn >= 0) {
+                set(currentRow, pendingStringColumn, string.getString());
+                pendingStringColumn = -1;
+            } else if (record instanceof LastCellOfRowDummyRecord last) {
+                rows.accept(new SheetRow(last.getRow(), cells));
+                cells = new ArrayList<>();
+                currentRow = -1;
+            }
+        }
+
+        private void set(int row, int column, String value) {
+            currentRow = row;
+            while (cells.size() <= column) {
+                cells.add("");
+            }
+            cells.set(column, value != null ? value : "");
+        }
+    }
+}
@@ -6,82 +6,164 @@ import com.socialimpact.tracker.repository.EmissionRepository;
 import com.socialimpact.tracker.repository.OrganizationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.poi.ss.usermodel.*;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class GirCollectorService {
+public class GirCollectorService implements IngestJobHandler {
+
+    public static final String JOB_TYPE = "GIR_EXCEL_UPLOAD";
+
+    private static final int MAX_ERRORS = 100;
 
     private final OrganizationRepository organizationRepository;
     private final EmissionRepository emissionRepository;
+    private final CompanyNameNormalizer companyNameNormalizer;
+    private final BulkUpsertService bulkUpsertService;
+    private final UploadSpool uploadSpool;
+    private final IngestFingerprintService fingerprints;
+
+    // 업로드 안에서 합산한 (회사, 연도) 합계로 교체 - 같은 파일을 다시 올려도 결과가 같다
+    private static final UpsertSpec<Emission> GIR_SPEC = UpsertSpecs.emissions();
 
     // Organizations 캐시
-    private Map<String, Organization> orgCache = null;
+    private volatile Map<String, Organization> orgCache = null;
+
+    // 매칭 통계 캐시 - 조직은 DART 조회/일괄 임포트에서도 추가되므로 업로드 시 무효화와 별개로 TTL 을 둔다
+    @Value("${ingest.gir.matching-statistics-ttl:5m}")
+    private Duration matchingStatisticsTtl;
+
+    private volatile CachedStatistics matchingStatistics = null;
+
+    private record CachedStatistics(Map<String, Object> stats, Instant loadedAt) {
+    }
+
+    @Override
+    public String getJobType() {
+        return JOB_TYPE;
+    }
 
     /**
-     * GIR 엑셀 파일을 업로드하여 DB에 저장
+     * 작업 항목 = 업로드 한 건 (보관된 엑셀 파일)
      */
-    @Transactional
-    public Map<String, Object> processGirExcelFile(MultipartFile file) {
+    @Override
+    public List<String> planItems(Map<String, String> params) {
+        return List.of(params.get("spoolId"));
+    }
+
+    @Override
+    public int processItem(String spoolId, Map<String, String> params) {
+        try {
+            List<Path> files = uploadSpool.files(spoolId);
+            UploadProgress progress = uploadSpool.start(spoolId, files);
+            boolean force = Boolean.parseBoolean(params.get("force"));
+
+            // 같은 회사의 여러 사업장 행을 업로드 전체에서 먼저 합산한 뒤 한 번에 기록
+            // 배출량은 REPLACE 라 예전에 올린 워크북도 다시 올리면 되돌려야 하므로, 파일 단위로 건너뛰지 않고
+            // (회사, 연도) 합계를 지금 저장된 지문과 비교한다
+            // 읽지 못한 파일이 하나라도 있으면 합계가 틀리므로 기록하지 않고 항목을 실패로 둔다 (보관 파일은 남김)
+            EmissionAggregator aggregator = new EmissionAggregator();
+            List<String> failedFiles = new ArrayList<>();
+            for (Path file : files) {
+                try {
+                    processGirExcelFile(file, aggregator, progress);
+                } catch (RuntimeException e) {
+                    String error = String.format("File %s: %s", UploadSpool.originalName(file), e.getMessage());
+                    failedFiles.add(error);
+                    progress.error(error);
+                }
+            }
+            if (!failedFiles.isEmpty()) {
+                progress.markFinished();
+                throw new IllegalStateException(failedFiles.size() + " file(s) failed: " + failedFiles.get(0));
+            }
+
+            int saved = writeAggregates(aggregator, progress, force);
+            if (saved > 0) {
+                invalidateMatchingStatistics();
+            }
+
+            progress.markFinished();
+            uploadSpool.discard(spoolId);
+            return saved;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Map<String, Object> describeProgress(Map<String, String> params) {
+        return uploadSpool.describe(params.get("spoolId"));
+    }
+
+    /**
+     * 보관된 GIR 엑셀 파일을 행 단위로 읽어 aggregator 에 합산
+     */
+    public Map<String, Object> processGirExcelFile(Path file, EmissionAggregator aggregator, UploadProgress progress) {
         log.info("🚀 Starting GIR Excel file processing...");
+        long startedAt = System.currentTimeMillis();
 
         // Organizations 캐싱
         loadOrganizationCache();
 
-        int totalRows = 0;
-        int successCount = 0;
-        int failureCount = 0;
+        int[] counts = new int[3]; // totalRows, successCount, failureCount
         List<String> errors = new ArrayList<>();
 
-        try (Workbook workbook = WorkbookFactory.create(file.getInputStream())) {
-            Sheet sheet = workbook.getSheetAt(0);
-
-            // 헤더 행 스킵
-            Iterator<Row> rowIterator = sheet.iterator();
-            if (rowIterator.hasNext()) {
-                rowIterator.next(); // 헤더 스킵
-            }
+        try {
+            boolean[] header = {true};
+            ExcelEventReader.read(file, sheetRow -> {
+                if (header[0]) {
+                    header[0] = false; // 헤더 스킵
+                    return;
+                }
 
-            // 데이터 처리
-            while (rowIterator.hasNext()) {
-                Row row = rowIterator.next();
-                totalRows++;
+                counts[0]++;
+                progress.rowProcessed();
 
                 try {
-                    processGirRow(row);
-                    successCount++;
-
-                    if (successCount % 100 == 0) {
-                        log.info("📊 Processed {} rows...", successCount);
-                    }
+                    GirRow row = GirRow.of(sheetRow);
+                    Organization org = findOrganization(row.corpName());
+                    aggregator.add(org, row.year(), row.corpName(), row.industry(), row.emissions(), row.energy(),
+                            IngestFingerprintService.rowHash(sheetRow.cells()));
+                    counts[1]++;
                 } catch (Exception e) {
-                    failureCount++;
-                    String error = String.format("Row %d: %s", row.getRowNum(), e.getMessage());
-                    errors.add(error);
+                    counts[2]++;
+                    String error = String.format("Row %d: %s", sheetRow.rowNum(), e.getMessage());
+                    if (errors.size() < MAX_ERRORS) {
+                        errors.add(error);
+                    }
+                    progress.error(error);
                     log.warn("⚠️  {}", error);
                 }
-            }
 
-            log.info("✅ GIR Excel processing completed!");
-            log.info("📊 Total: {}, Success: {}, Failed: {}", totalRows, successCount, failureCount);
+                if (counts[0] % 10_000 == 0) {
+                    log.info("📊 Read {} rows ({} rows/s)", counts[0], rowsPerSecond(counts[0], startedAt));
+                }
+            }, rowCount -> progress.expectRows(Math.max(0, rowCount - 1))); // 헤더 제외
 
         } catch (IOException e) {
             log.error("❌ Error reading Excel file", e);
             throw new RuntimeException("Failed to process Excel file: " + e.getMessage());
         }
 
+        log.info("✅ GIR Excel processing completed!");
+        log.info("📊 Total: {}, Success: {}, Failed: {}, Company-years: {} ({} rows/s)",
+                counts[0], counts[1], counts[2], aggregator.size(), rowsPerSecond(counts[0], startedAt));
+
         return Map.of(
-                "totalRows", totalRows,
-                "successCount", successCount,
-                "failureCount", failureCount,
+                "totalRows", counts[0],
+                "successCount", counts[1],
+                "failureCount", counts[2],
                 "errors", errors
         );
     }
@@ -89,13 +171,13 @@ public class GirCollectorService {
     /**
      * Organizations 테이블 캐싱
      */
-    private void loadOrganizationCache() {
+    private synchronized void loadOrganizationCache() {
         if (orgCache != null) {
             return; // 이미 로드됨
         }
 
         log.info("📋 Loading all organizations into cache...");
-        orgCache = new HashMap<>();
+        Map<String, Organization> cache = new HashMap<>();
 
         List<Organization> allOrgs = organizationRepository.findAll();
 
@@ -105,75 +187,72 @@ public class GirCollectorService {
             }
 
             // 원본 이름으로 저장
-            orgCache.put(org.getName(), org);
+            cache.put(org.getName(), org);
 
             // 정규화된 이름으로도 저장
-            String normalized = normalizeCompanyName(org.getName());
-            orgCache.put(normalized, org);
+            String normalized = companyNameNormalizer.normalize(org.getName());
+            cache.put(normalized, org);
         }
 
+        orgCache = cache;
         log.info("✅ Cached {} organizations ({} entries)",
                 allOrgs.stream().filter(o -> "상장사".equals(o.getType())).count(),
-                orgCache.size());
+                cache.size());
     }
 
     /**
-     * GIR 엑셀의 각 행을 처리
+     * GIR 엑셀 한 행 (필요한 열만, 숫자는 파싱된 값)
      */
-    private void processGirRow(Row row) {
+    record GirRow(int rowNum, String corpName, int year, String industry, BigDecimal emissions, BigDecimal energy) {
+
         // 컬럼 인덱스
-        final int COL_CORP_NAME = 2;
-        final int COL_YEAR = 3;
-        final int COL_INDUSTRY = 5;
-        final int COL_EMISSIONS = 6;
-        final int COL_ENERGY = 7;
-
-        // 데이터 추출
-        String corpName = getCellValueAsString(row.getCell(COL_CORP_NAME)).trim();
-        String yearStr = getCellValueAsString(row.getCell(COL_YEAR));
-        String industry = getCellValueAsString(row.getCell(COL_INDUSTRY));
-        String emissionsStr = getCellValueAsString(row.getCell(COL_EMISSIONS));
-        String energyStr = getCellValueAsString(row.getCell(COL_ENERGY));
-
-        if (corpName.isEmpty() || yearStr.isEmpty()) {
-            throw new RuntimeException("필수 데이터 누락");
+        private static final int COL_CORP_NAME = 2;
+        private static final int COL_YEAR = 3;
+        private static final int COL_INDUSTRY = 5;
+        private static final int COL_EMISSIONS = 6;
+        private static final int COL_ENERGY = 7;
+
+        static GirRow of(ExcelEventReader.SheetRow row) {
+            String corpName = row.cell(COL_CORP_NAME).trim();
+            String yearStr = row.cell(COL_YEAR).replace(",", "").trim();
+
+            if (corpName.isEmpty() || yearStr.isEmpty()) {
+                throw new RuntimeException("필수 데이터 누락");
+            }
+
+            return new GirRow(row.rowNum(), corpName, Integer.parseInt(yearStr), row.cell(COL_INDUSTRY),
+                    parseNumericValue(row.cell(COL_EMISSIONS)), parseNumericValue(row.cell(COL_ENERGY)));
         }
+    }
 
-        int year = Integer.parseInt(yearStr);
-        BigDecimal emissions = parseNumericValue(emissionsStr);
-        BigDecimal energy = parseNumericValue(energyStr);
-
-        // Organization 찾기
-        Organization org = findOrganization(corpName);
-
-        // ⭐ 같은 회사+연도의 기존 레코드를 찾아서 합산
-        Emission emission = emissionRepository
-                .findByOrganizationIdAndYear(org.getId(), year)
-                .orElse(new Emission());
-
-        if (emission.getId() == null) {
-            // 신규 레코드
-            emission.setOrganization(org);
-            emission.setOrganizationName(org.getName());
-            emission.setGirCompanyName(corpName);
-            emission.setYear(year);
-            emission.setTotalEmissions(emissions);
-            emission.setEnergyUsage(energy);
-            emission.setIndustry(industry);
-            emission.setDataSource("GIR");
-            emission.setVerificationStatus("검증완료");
-        } else {
-            // ⭐ 기존 레코드에 합산 (같은 회사의 다른 사업장)
-            emission.setTotalEmissions(emission.getTotalEmissions().add(emissions));
-            emission.setEnergyUsage(emission.getEnergyUsage().add(energy));
-
-            // GIR 법인명도 누적 (디버깅용)
-            if (!emission.getGirCompanyName().contains(corpName)) {
-                emission.setGirCompanyName(emission.getGirCompanyName() + ", " + corpName);
+    /**
+     * 합산된 (회사, 연도) 합계 중 지금 저장된 지문과 다른 것만 일괄 upsert - 기록한 행 수
+     */
+    private int writeAggregates(EmissionAggregator aggregator, UploadProgress progress, boolean force) {
+        if (aggregator.size() == 0) {
+            return 0;
+        }
+
+        Map<String, Long> current = force ? Map.of() : fingerprints.loadKeyFingerprints(JOB_TYPE);
+
+        List<Emission> changed = new ArrayList<>();
+        Map<String, Long> changedFingerprints = new HashMap<>();
+        for (EmissionAggregator.Aggregate aggregate : aggregator.results()) {
+            Emission emission = aggregate.emission();
+            String key = emission.getOrganizationId() + ":" + emission.getYear();
+            Long stored = current.get(key);
+            if (stored == null || stored != aggregate.fingerprint()) {
+                changed.add(emission);
+                changedFingerprints.put(key, aggregate.fingerprint());
             }
         }
+        log.info("📊 Company-years: {}, changed: {}, unchanged: {}",
+                aggregator.size(), changed.size(), aggregator.size() - changed.size());
 
-        emissionRepository.save(emission);
+        BulkUpsertService.Result result = bulkUpsertService.upsert(GIR_SPEC, changed);
+        fingerprints.saveKeyFingerprints(JOB_TYPE, changedFingerprints);
+        progress.rowsWritten(result.rows());
+        return result.rows();
     }
 
     /**
@@ -186,7 +265,7 @@ public class GirCollectorService {
         }
 
         // 2. 정규화 후 매칭
-        String normalized = normalizeCompanyName(corpName);
+        String normalized = companyNameNormalizer.normalize(corpName);
         if (orgCache.containsKey(normalized)) {
             Organization org = orgCache.get(normalized);
             log.debug("🔗 Matched: '{}' → '{}'", corpName, org.getName());
@@ -210,70 +289,10 @@ public class GirCollectorService {
         throw new RuntimeException("Organization not found: " + corpName);
     }
 
-    /**
-     * 회사명 정규화
-     */
-    private String normalizeCompanyName(String name) {
-        if (name == null || name.isEmpty()) {
-            return "";
-        }
-
-        String normalized = name;
-
-        // 회사 형태 제거
-        normalized = normalized.replaceAll("주식회사", "")
-                .replaceAll("\\(주\\)", "")
-                .replaceAll("㈜", "")
-                .replaceAll("유한회사", "")
-                .replaceAll("\\(유\\)", "");
-
-        // 영문 → 한글
-        normalized = normalized.replace("SK", "에스케이")
-                .replace("LG", "엘지")
-                .replace("KT", "케이티")
-                .replace("GS", "지에스")
-                .replace("CJ", "씨제이")
-                .replace("KB", "케이비")
-                .replace("POSCO", "포스코")
-                .replace("Posco", "포스코");
-
-        // 한글 → 영문
-        normalized = normalized.replace("에스케이", "sk")
-                .replace("엘지", "lg")
-                .replace("케이티", "kt")
-                .replace("지에스", "gs")
-                .replace("씨제이", "cj")
-                .replace("케이비", "kb")
-                .replace("포스코", "posco");
-
-        // 공백, 특수문자 제거 후 소문자
-        normalized = normalized.replaceAll("[\\s()\\-_.,]", "")
-                .toLowerCase();
-
-        return normalized;
-    }
-
-    /**
-     * 셀 값을 문자열로 변환
-     */
-    private String getCellValueAsString(Cell cell) {
-        if (cell == null) {
-            return "";
-        }
-
-        return switch (cell.getCellType()) {
-            case STRING -> cell.getStringCellValue();
-            case NUMERIC -> String.valueOf((int) cell.getNumericCellValue());
-            case BOOLEAN -> String.valueOf(cell.getBooleanCellValue());
-            case FORMULA -> cell.getCellFormula();
-            default -> "";
-        };
-    }
-
     /**
      * 숫자 문자열을 BigDecimal로 변환
      */
-    private BigDecimal parseNumericValue(String value) {
+    private static BigDecimal parseNumericValue(String value) {
         if (value == null || value.trim().isEmpty()) {
             return BigDecimal.ZERO;
         }
@@ -287,27 +306,40 @@ public class GirCollectorService {
         }
     }
 
+    private static long rowsPerSecond(int rows, long startedAt) {
+        long elapsed = System.currentTimeMillis() - startedAt;
+        return elapsed > 0 ? Math.round(rows * 1000.0 / elapsed) : rows;
+    }
+
     /**
-     * 매칭 통계 조회
+     * 매칭 통계 조회 (집계 쿼리 한 번, 결과는 GIR 업로드/삭제 전까지 또는 TTL 동안 캐시)
      */
     public Map<String, Object> getMatchingStatistics() {
-        long totalOrgs = organizationRepository.findAll().stream()
-                .filter(o -> "상장사".equals(o.getType()))
-                .count();
-
-        long totalEmissions = emissionRepository.count();
+        CachedStatistics cached = matchingStatistics;
+        if (cached != null && cached.loadedAt().plus(matchingStatisticsTtl).isAfter(Instant.now())) {
+            return cached.stats();
+        }
 
-        long matchedOrgs = organizationRepository.findAll().stream()
-                .filter(o -> "상장사".equals(o.getType()))
-                .filter(org -> emissionRepository.findByOrganizationId(org.getId()).size() > 0)
-                .count();
+        Object[] row = emissionRepository.getMatchingStatistics().get(0);
+        long totalOrgs = ((Number) row[0]).longValue();
+        long matchedOrgs = ((Number) row[1]).longValue();
+        long totalEmissions = ((Number) row[2]).longValue();
 
-        return Map.of(
+        Map<String, Object> stats = Map.of(
                 "totalOrganizations", totalOrgs,
                 "matchedOrganizations", matchedOrgs,
                 "unmatchedOrganizations", totalOrgs - matchedOrgs,
                 "totalEmissionRecords", totalEmissions,
                 "matchRate", totalOrgs > 0 ? (matchedOrgs * 100.0 / totalOrgs) : 0.0
         );
+        matchingStatistics = new CachedStatistics(stats, Instant.now());
+        return stats;
+    }
+
+    /**
+     * 배출량 데이터가 바뀌면 호출 (업로드 완료, 전체 삭제) - 조직 추가는 TTL 로 반영된다
+     */
+    public void invalidateMatchingStatistics() {
+        matchingStatistics = null;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,20 @@
+package com.socialimpact.tracker.service;
+
+/**
+ * 일괄 임포트 본문을 끝까지 읽지 못해 중단됨 (중단 전에 이미 기록한 행 수를 함께 전달)
+ */
+public class ImportAbortedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int savedCount;
+
+    public ImportAbortedException(String message, int savedCount, Throwable cause) {
+        super(message, cause);
+        this.savedCount = savedCount;
+    }
+
+    public int getSavedCount() {
+        return savedCount;
+    }
+}
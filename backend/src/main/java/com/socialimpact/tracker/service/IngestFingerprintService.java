@@ -0,0 +1,223 @@
+package com.socialimpact.tracker.service;
+
+import com.socialimpact.tracker.entity.IngestedFile;
+import com.socialimpact.tracker.repository.IngestedFileRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 업로드 파일/행 내용 해시 (같은 파일 재업로드, 일부만 고친 파일 재업로드 감지)
+ *
+ * - 파일: SHA-256 (hex) 을 ingested_files 에 기록, 이미 처리한 파일은 통째로 건너뛴다
+ * - 행: SHA-256 앞 8바이트(long)를 ingested_row_hashes 에 기록, 이미 반영한 행은 건너뛴다
+ * - 키: 자연키별로 지금 저장된 값의 지문을 ingested_key_fingerprints 에 덮어쓴다
+ *   (값을 REPLACE 로 쓰는 데이터용 - 예전 내용으로 되돌리는 재업로드도 "바뀜"으로 본다)
+ *
+ * 데이터를 지우면(forget) 해당 유형의 기록도 지워야 재업로드가 다시 반영된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IngestFingerprintService {
+
+    private static final int INSERT_BATCH_SIZE = 1000;
+    private static final int READ_BUFFER_SIZE = 1 << 20;
+    private static final char FIELD_SEPARATOR = '\u001f';
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final IngestedFileRepository ingestedFileRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 이미 반영한 행 해시 집합 (정렬된 long 배열, 읽기 전용)
+     */
+    public static final class RowHashes {
+
+        public static final RowHashes EMPTY = new RowHashes(new long[0]);
+
+        private final long[] hashes;
+
+        private RowHashes(long[] hashes) {
+            this.hashes = hashes;
+        }
+
+        public boolean contains(long hash) {
+            return Arrays.binarySearch(hashes, hash) >= 0;
+        }
+
+        public int size() {
+            return hashes.length;
+        }
+    }
+
+    public String sha256(Path file) throws IOException {
+        MessageDigest digest = SHA256.get();
+        digest.reset();
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(file)) {
+            int n;
+            while ((n = in.read(buffer)) > 0) {
+                digest.update(buffer, 0, n);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 행 내용 해시 (필드 순서대로, 구분자 포함)
+     */
+    public static long rowHash(Iterable<String> values) {
+        StringBuilder joined = new StringBuilder(128);
+        Iterator<String> it = values.iterator();
+        while (it.hasNext()) {
+            String value = it.next();
+            joined.append(value != null ? value : "");
+            if (it.hasNext()) {
+                joined.append(FIELD_SEPARATOR);
+            }
+        }
+        MessageDigest digest = SHA256.get();
+        digest.reset();
+        return ByteBuffer.wrap(digest.digest(joined.toString().getBytes(StandardCharsets.UTF_8))).getLong();
+    }
+
+    public boolean isKnownFile(String kind, String sha256) {
+        return ingestedFileRepository.existsByKindAndSha256(kind, sha256);
+    }
+
+    public void recordFile(String kind, String sha256, String fileName, long sizeBytes, int rowCount) {
+        IngestedFile file = new IngestedFile();
+        file.setKind(kind);
+        file.setSha256(sha256);
+        file.setFileName(fileName);
+        file.setSizeBytes(sizeBytes);
+        file.setRowCount(rowCount);
+        try {
+            ingestedFileRepository.save(file);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 파일이 동시에 처리된 경우 - 이미 기록됨
+        }
+    }
+
+    public RowHashes loadRowHashes(String kind) {
+        long[][] buffer = {new long[1024]};
+        int[] size = {0};
+        jdbcTemplate.query("SELECT row_hash FROM ingested_row_hashes WHERE kind = ?", rs -> {
+            if (size[0] == buffer[0].length) {
+                buffer[0] = Arrays.copyOf(buffer[0], size[0] * 2);
+            }
+            buffer[0][size[0]++] = rs.getLong(1);
+        }, kind);
+
+        long[] hashes = Arrays.copyOf(buffer[0], size[0]);
+        Arrays.sort(hashes);
+        log.info("📋 [{}] 반영된 행 해시 {}건 로드", kind, hashes.length);
+        return new RowHashes(hashes);
+    }
+
+    public void saveRowHashes(String kind, Collection<Long> hashes) {
+        List<Long> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (Long hash : hashes) {
+            batch.add(hash);
+            if (batch.size() == INSERT_BATCH_SIZE) {
+                insertRowHashes(kind, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            insertRowHashes(kind, batch);
+        }
+    }
+
+    /**
+     * 자연키 → 지금 저장된 값의 지문
+     */
+    public Map<String, Long> loadKeyFingerprints(String kind) {
+        Map<String, Long> fingerprints = new HashMap<>();
+        jdbcTemplate.query("SELECT record_key, fingerprint FROM ingested_key_fingerprints WHERE kind = ?",
+                rs -> {
+                    fingerprints.put(rs.getString(1), rs.getLong(2));
+                }, kind);
+        log.info("📋 [{}] 저장된 키 지문 {}건 로드", kind, fingerprints.size());
+        return fingerprints;
+    }
+
+    /**
+     * 방금 기록한 키의 지문으로 덮어쓰기
+     */
+    public void saveKeyFingerprints(String kind, Map<String, Long> fingerprints) {
+        List<Map.Entry<String, Long>> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (Map.Entry<String, Long> entry : fingerprints.entrySet()) {
+            batch.add(entry);
+            if (batch.size() == INSERT_BATCH_SIZE) {
+                upsertKeyFingerprints(kind, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            upsertKeyFingerprints(kind, batch);
+        }
+    }
+
+    /**
+     * 유형별 기록 삭제 (데이터 삭제 후 재업로드가 다시 반영되도록)
+     */
+    public void forget(String kind) {
+        int files = ingestedFileRepository.deleteByKind(kind);
+        int rows = jdbcTemplate.update("DELETE FROM ingested_row_hashes WHERE kind = ?", kind);
+        int keys = jdbcTemplate.update("DELETE FROM ingested_key_fingerprints WHERE kind = ?", kind);
+        log.info("🧹 [{}] 업로드 해시 기록 삭제: 파일 {}건, 행 {}건, 키 {}건", kind, files, rows, keys);
+    }
+
+    private void insertRowHashes(String kind, List<Long> batch) {
+        StringBuilder sql = new StringBuilder("INSERT IGNORE INTO ingested_row_hashes (kind, row_hash) VALUES ");
+        Object[] params = new Object[batch.size() * 2];
+        for (int i = 0; i < batch.size(); i++) {
+            sql.append(i == 0 ? "(?, ?)" : ", (?, ?)");
+            params[i * 2] = kind;
+            params[i * 2 + 1] = batch.get(i);
+        }
+        jdbcTemplate.update(sql.toString(), params);
+    }
+
+    private void upsertKeyFingerprints(String kind, List<Map.Entry<String, Long>> batch) {
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO ingested_key_fingerprints (kind, record_key, fingerprint, updated_at) VALUES ");
+        Object[] params = new Object[batch.size() * 3];
+        for (int i = 0; i < batch.size(); i++) {
+            sql.append(i == 0 ? "(?, ?, ?, NOW())" : ", (?, ?, ?, NOW())");
+            params[i * 3] = kind;
+            params[i * 3 + 1] = batch.get(i).getKey();
+            params[i * 3 + 2] = batch.get(i).getValue();
+        }
+        sql.append(" ON DUPLICATE KEY UPDATE fingerprint = VALUES(fingerprint), updated_at = VALUES(updated_at)");
+        jdbcTemplate.update(sql.toString(), params);
+    }
+}
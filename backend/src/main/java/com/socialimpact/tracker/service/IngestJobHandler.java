@@ -0,0 +1,62 @@
+package com.socialimpact.tracker.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * IngestJobService 가 실행하는 수집 작업 유형
+ *
+ * 작업은 itemKey 단위로 쪼개져 DB 에 저장되고, 항목별로 processItem 이 호출된다.
+ */
+public interface IngestJobHandler {
+
+    ZoneId QUOTA_ZONE = ZoneId.of("Asia/Seoul");
+
+    /**
+     * 작업 유형 (ingest_jobs.job_type)
+     */
+    String getJobType();
+
+    /**
+     * 작업 항목 목록 생성 (작업 시작 시 한 번 호출)
+     */
+    List<String> planItems(Map<String, String> params);
+
+    /**
+     * 항목 하나 처리 - 저장된 레코드 수 반환
+     *
+     * @throws QuotaExceededException API 한도 초과 시 (항목은 대기 상태로 남는다)
+     */
+    int processItem(String itemKey, Map<String, String> params);
+
+    /**
+     * 동시에 처리할 항목 수 (기본 1 = 순서대로)
+     *
+     * 2 이상이면 항목들이 ingestItemExecutor 에서 동시에 처리된다. 완료 여부는 항목별로 기록되므로
+     * 끝나는 순서와 관계없이 재시작 시 남은 항목만 이어서 처리한다. processItem 은 스레드 안전해야 한다.
+     */
+    default int itemConcurrency() {
+        return 1;
+    }
+
+    /**
+     * 작업 진행 상황에 덧붙일 유형별 정보 (예: 업로드 파일의 처리 행 수, 처리량)
+     */
+    default Map<String, Object> describeProgress(Map<String, String> params) {
+        return Map.of();
+    }
+
+    /**
+     * 한도 초과 시 재개할 시각 (기본: 다음 날 00:05 KST, 일일 한도 초기화 이후)
+     */
+    default LocalDateTime nextQuotaWindow() {
+        ZonedDateTime nextWindow = LocalDate.now(QUOTA_ZONE).plusDays(1)
+                .atTime(0, 5)
+                .atZone(QUOTA_ZONE);
+        return nextWindow.withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+    }
+}
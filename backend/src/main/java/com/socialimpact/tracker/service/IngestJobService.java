@@ -0,0 +1,470 @@
+package com.socialimpact.tracker.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.socialimpact.tracker.entity.IngestJob;
+import com.socialimpact.tracker.entity.IngestJob.JobStatus;
+import com.socialimpact.tracker.entity.IngestWorkItem;
+import com.socialimpact.tracker.entity.IngestWorkItem.ItemStatus;
+import com.socialimpact.tracker.repository.IngestJobRepository;
+import com.socialimpact.tracker.repository.IngestWorkItemRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * DB 기반 수집 작업 관리
+ *
+ * - 작업(ingest_jobs)과 작업 항목(ingest_work_items)을 DB 에 저장하므로 서버 재시작 후에도 이어서 처리
+ * - 일시정지 / 재개 / 취소
+ * - API 한도 초과 시 THROTTLED 로 전환하고 다음 한도 구간에 자동 재개 (서버는 계속 동작)
+ * - 핸들러가 허용하면(itemConcurrency) 항목을 동시에 처리, 완료 여부는 항목별로 기록
+ */
+@Service
+@Slf4j
+public class IngestJobService {
+
+    private static final int ITEM_BATCH_SIZE = 50;
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final IngestJobRepository jobRepository;
+    private final IngestWorkItemRepository itemRepository;
+    private final ThreadPoolTaskExecutor ingestExecutor;
+    private final ThreadPoolTaskExecutor ingestItemExecutor;
+    private final Map<String, IngestJobHandler> handlers;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 현재 이 프로세스에서 실행 중인 작업 id
+    private final Set<Long> runningJobs = ConcurrentHashMap.newKeySet();
+
+    public IngestJobService(IngestJobRepository jobRepository,
+                            IngestWorkItemRepository itemRepository,
+                            ThreadPoolTaskExecutor ingestExecutor,
+                            ThreadPoolTaskExecutor ingestItemExecutor,
+                            List<IngestJobHandler> handlers) {
+        this.jobRepository = jobRepository;
+        this.itemRepository = itemRepository;
+        this.ingestExecutor = ingestExecutor;
+        this.ingestItemExecutor = ingestItemExecutor;
+        this.handlers = handlers.stream()
+                .collect(Collectors.toMap(IngestJobHandler::getJobType, Function.identity()));
+    }
+
+    /**
+     * 작업 시작 - 같은 유형의 미완료 작업이 있으면 그 작업을 재개
+     */
+    public IngestJob startOrResume(String jobType, Map<String, String> params) {
+        Optional<IngestJob> unfinished = findUnfinished(jobType);
+        if (unfinished.isPresent()) {
+            IngestJob job = unfinished.get();
+            log.info("🔄 미완료 작업 재개: #{} ({})", job.getId(), jobType);
+            return resume(job.getId());
+        }
+        return start(jobType, params);
+    }
+
+    /**
+     * 새 작업 생성 후 실행
+     */
+    public IngestJob start(String jobType, Map<String, String> params) {
+        if (!handlers.containsKey(jobType)) {
+            throw new IllegalArgumentException("Unknown job type: " + jobType);
+        }
+
+        IngestJob job = new IngestJob();
+        job.setJobType(jobType);
+        job.setStatus(JobStatus.PENDING);
+        job.setParams(writeParams(params));
+        job = jobRepository.save(job);
+
+        log.info("🚀 수집 작업 생성: #{} ({}) {}", job.getId(), jobType, params);
+        submit(job.getId());
+        return job;
+    }
+
+    public IngestJob pause(Long jobId) {
+        int updated = jobRepository.transition(jobId,
+                EnumSet.of(JobStatus.PENDING, JobStatus.RUNNING, JobStatus.THROTTLED), JobStatus.PAUSED);
+        if (updated == 0) {
+            throw new IllegalStateException("Job cannot be paused in its current state: " + jobId);
+        }
+        log.info("⏸️ 작업 일시정지: #{}", jobId);
+        return getJob(jobId);
+    }
+
+    public IngestJob resume(Long jobId) {
+        int updated = jobRepository.transition(jobId,
+                EnumSet.of(JobStatus.PAUSED, JobStatus.THROTTLED, JobStatus.PENDING, JobStatus.FAILED),
+                JobStatus.PENDING);
+        if (updated == 0 && !runningJobs.contains(jobId)) {
+            // RUNNING 으로 남아 있지만 이 프로세스에서 돌고 있지 않은 작업 (재시작 등)
+            updated = jobRepository.transition(jobId, EnumSet.of(JobStatus.RUNNING), JobStatus.PENDING);
+        }
+        if (updated == 0) {
+            throw new IllegalStateException("Job cannot be resumed in its current state: " + jobId);
+        }
+        submit(jobId);
+        return getJob(jobId);
+    }
+
+    public IngestJob cancel(Long jobId) {
+        int updated = jobRepository.transition(jobId, JobStatus.UNFINISHED, JobStatus.CANCELLED);
+        if (updated == 0) {
+            throw new IllegalStateException("Job is already finished: " + jobId);
+        }
+        log.info("🛑 작업 취소: #{}", jobId);
+        return getJob(jobId);
+    }
+
+    public IngestJob getJob(Long jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new NoSuchElementException("Job not found: " + jobId));
+    }
+
+    public List<IngestJob> getRecentJobs() {
+        return jobRepository.findTop50ByOrderByIdDesc();
+    }
+
+    public Optional<IngestJob> findUnfinished(String jobType) {
+        return jobRepository.findFirstByJobTypeAndStatusInOrderByIdDesc(jobType, JobStatus.UNFINISHED);
+    }
+
+    public Optional<IngestJob> findLatest(String jobType) {
+        return jobRepository.findFirstByJobTypeOrderByIdDesc(jobType);
+    }
+
+    public boolean isRunning(String jobType) {
+        return jobRepository.findFirstByJobTypeAndStatusInOrderByIdDesc(jobType,
+                EnumSet.of(JobStatus.PENDING, JobStatus.RUNNING)).isPresent();
+    }
+
+    public Map<String, String> getParams(IngestJob job) {
+        return readParams(job.getParams());
+    }
+
+    public List<IngestWorkItem> getItems(Long jobId, ItemStatus status) {
+        return itemRepository.findByJob_IdAndStatus(jobId, status);
+    }
+
+    /**
+     * 진행 상황 (항목 상태별 개수, 진행률, 예상 남은 시간)
+     */
+    public Map<String, Object> getProgress(IngestJob job) {
+        Map<ItemStatus, Long> counts = new EnumMap<>(ItemStatus.class);
+        for (Object[] row : itemRepository.countByStatus(job.getId())) {
+            counts.put((ItemStatus) row[0], (Long) row[1]);
+        }
+
+        long done = counts.getOrDefault(ItemStatus.DONE, 0L);
+        long failed = counts.getOrDefault(ItemStatus.FAILED, 0L);
+        long pending = counts.getOrDefault(ItemStatus.PENDING, 0L) + counts.getOrDefault(ItemStatus.RUNNING, 0L);
+        long processed = done + failed;
+        long total = job.getTotalItems() != null ? job.getTotalItems() : processed + pending;
+
+        Object[] results = itemRepository.summarizeResults(job.getId(), ItemStatus.DONE).get(0);
+
+        Map<String, Object> progress = new LinkedHashMap<>();
+        progress.put("jobId", job.getId());
+        progress.put("jobType", job.getJobType());
+        progress.put("status", job.getStatus());
+        progress.put("params", readParams(job.getParams()));
+        progress.put("totalItems", total);
+        progress.put("processedItems", processed);
+        progress.put("pendingItems", pending);
+        progress.put("failedItems", failed);
+        progress.put("itemsWithData", results[0]);
+        progress.put("savedRecords", results[1]);
+        progress.put("progressPercentage", total > 0 ? processed * 100.0 / total : 0.0);
+        progress.put("estimatedTimeRemaining", estimateRemainingSeconds(job, processed, pending));
+        progress.put("deferredUntil", job.getDeferredUntil());
+        progress.put("lastError", job.getLastError());
+        progress.put("createdAt", job.getCreatedAt());
+        progress.put("startedAt", job.getStartedAt());
+        progress.put("finishedAt", job.getFinishedAt());
+
+        IngestJobHandler handler = handlers.get(job.getJobType());
+        if (handler != null) {
+            progress.putAll(handler.describeProgress(readParams(job.getParams())));
+        }
+        return progress;
+    }
+
+    /**
+     * 한도 초과로 미뤄진 작업 재개 (1분마다)
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void resumeDeferredJobs() {
+        for (IngestJob job : jobRepository.findByStatusAndDeferredUntilLessThanEqual(
+                JobStatus.THROTTLED, LocalDateTime.now())) {
+            log.info("⏰ 한도 구간 갱신, 작업 재개: #{} ({})", job.getId(), job.getJobType());
+            if (jobRepository.transition(job.getId(), EnumSet.of(JobStatus.THROTTLED), JobStatus.PENDING) > 0) {
+                submit(job.getId());
+            }
+        }
+    }
+
+    /**
+     * 서버 재시작 시 실행 중이던 작업 이어서 처리
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverInterruptedJobs() {
+        List<IngestJob> interrupted = new ArrayList<>(jobRepository.findByStatus(JobStatus.RUNNING));
+        interrupted.addAll(jobRepository.findByStatus(JobStatus.PENDING));
+
+        for (IngestJob job : interrupted) {
+            log.info("♻️ 중단된 작업 복구: #{} ({})", job.getId(), job.getJobType());
+            jobRepository.transition(job.getId(), EnumSet.of(JobStatus.RUNNING), JobStatus.PENDING);
+            submit(job.getId());
+        }
+
+        resumeDeferredJobs();
+    }
+
+    private void submit(Long jobId) {
+        if (!runningJobs.add(jobId)) {
+            log.debug("작업 #{} 이미 실행 중", jobId);
+            return;
+        }
+        try {
+            ingestExecutor.execute(() -> {
+                try {
+                    runJob(jobId);
+                } finally {
+                    runningJobs.remove(jobId);
+                }
+            });
+        } catch (RuntimeException e) {
+            runningJobs.remove(jobId);
+            throw e;
+        }
+    }
+
+    /**
+     * 작업 실행 루프 (ingestExecutor 스레드)
+     */
+    private void runJob(Long jobId) {
+        if (jobRepository.transition(jobId, EnumSet.of(JobStatus.PENDING), JobStatus.RUNNING) == 0) {
+            return; // 그 사이 일시정지/취소됨
+        }
+
+        IngestJob job = getJob(jobId);
+        IngestJobHandler handler = handlers.get(job.getJobType());
+        Map<String, String> params = readParams(job.getParams());
+
+        jobRepository.markStarted(jobId, LocalDateTime.now());
+
+        try {
+            itemRepository.updateStatus(jobId, ItemStatus.RUNNING, ItemStatus.PENDING);
+
+            if (job.getTotalItems() == null) {
+                planItems(job, handler, params);
+            }
+
+            AtomicLong processed = new AtomicLong();
+            int concurrency = Math.max(1, handler.itemConcurrency());
+            List<IngestWorkItem> batch;
+            while (!(batch = itemRepository.findByJob_IdAndStatusOrderByIdAsc(
+                    jobId, ItemStatus.PENDING, PageRequest.of(0, ITEM_BATCH_SIZE))).isEmpty()) {
+
+                if (concurrency > 1) {
+                    if (!processConcurrently(jobId, handler, batch, params, concurrency, processed)) {
+                        return;
+                    }
+                    continue;
+                }
+
+                for (IngestWorkItem item : batch) {
+                    if (!isStillRunning(jobId)) {
+                        return;
+                    }
+
+                    processItem(handler, item, params);
+                    logProgress(jobId, processed.incrementAndGet());
+                }
+            }
+
+            finish(jobId, JobStatus.COMPLETED, null);
+            log.info("✅ 작업 #{} 완료 ({})", jobId, job.getJobType());
+
+        } catch (QuotaExceededException e) {
+            LocalDateTime until = handler.nextQuotaWindow();
+            jobRepository.defer(jobId, JobStatus.RUNNING, JobStatus.THROTTLED, until, truncate(e.getMessage()));
+            log.warn("🚫 API 한도 초과, 작업 #{} 을 {} 까지 미룹니다: {}", jobId, until, e.getMessage());
+
+        } catch (Exception e) {
+            log.error("❌ 작업 #{} 실패", jobId, e);
+            finish(jobId, JobStatus.FAILED, e.getMessage());
+        }
+    }
+
+    private void planItems(IngestJob job, IngestJobHandler handler, Map<String, String> params) {
+        if (itemRepository.countByJob_Id(job.getId()) == 0) {
+            List<String> keys = handler.planItems(params);
+
+            List<IngestWorkItem> items = new ArrayList<>(keys.size());
+            for (String key : new LinkedHashSet<>(keys)) {
+                IngestWorkItem item = new IngestWorkItem();
+                item.setJob(job);
+                item.setItemKey(key);
+                items.add(item);
+            }
+            itemRepository.saveAll(items);
+        }
+
+        int total = (int) itemRepository.countByJob_Id(job.getId());
+        jobRepository.updateTotalItems(job.getId(), total);
+        log.info("📋 작업 #{} 항목 {}개 생성", job.getId(), total);
+    }
+
+    /**
+     * 항목 묶음을 동시에 처리 (최대 concurrency 개) - 작업이 중지되면 false
+     *
+     * 묶음이 모두 끝난 뒤에 다음 묶음을 읽는다 (아직 시작하지 않은 항목을 다시 읽지 않도록).
+     * 한도 초과가 나면 새 항목은 시작하지 않고, 진행 중인 항목이 끝나길 기다린 뒤 던진다.
+     */
+    private boolean processConcurrently(Long jobId, IngestJobHandler handler, List<IngestWorkItem> batch,
+                                        Map<String, String> params, int concurrency, AtomicLong processed) {
+        Semaphore slots = new Semaphore(concurrency);
+        AtomicReference<QuotaExceededException> quotaExceeded = new AtomicReference<>();
+        List<Future<?>> futures = new ArrayList<>(batch.size());
+        boolean stopped = false;
+
+        try {
+            for (IngestWorkItem item : batch) {
+                slots.acquire();
+                if (quotaExceeded.get() != null) {
+                    slots.release();
+                    break;
+                }
+                if (!isStillRunning(jobId)) {
+                    slots.release();
+                    stopped = true;
+                    break;
+                }
+
+                futures.add(ingestItemExecutor.submit(() -> {
+                    try {
+                        processItem(handler, item, params);
+                        logProgress(jobId, processed.incrementAndGet());
+                    } catch (QuotaExceededException e) {
+                        quotaExceeded.compareAndSet(null, e);
+                    } finally {
+                        slots.release();
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("Interrupted while processing job " + jobId, e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Work item failed unexpectedly: " + e.getCause().getMessage(), e.getCause());
+        }
+
+        if (quotaExceeded.get() != null) {
+            throw quotaExceeded.get();
+        }
+        return !stopped;
+    }
+
+    private boolean isStillRunning(Long jobId) {
+        JobStatus current = jobRepository.findStatusById(jobId).orElse(JobStatus.CANCELLED);
+        if (current != JobStatus.RUNNING) {
+            log.info("⏹️ 작업 #{} 중지 ({})", jobId, current);
+            return false;
+        }
+        return true;
+    }
+
+    private void logProgress(Long jobId, long processed) {
+        if (processed % 10 == 0) {
+            Map<String, Object> progress = getProgress(getJob(jobId));
+            log.info("📊 작업 #{} 진행: {}/{} ({}%) | 데이터: {}건 | 남은 시간: {}초",
+                    jobId, progress.get("processedItems"), progress.get("totalItems"),
+                    progress.get("progressPercentage") instanceof Double percentage
+                            ? String.format("%.1f", percentage) : "-", // 업로드 진행률은 추정 불가면 null
+                    progress.get("savedRecords"), progress.get("estimatedTimeRemaining"));
+        }
+    }
+
+    private void processItem(IngestJobHandler handler, IngestWorkItem item, Map<String, String> params) {
+        item.setStatus(ItemStatus.RUNNING);
+        item.setAttempts(item.getAttempts() + 1);
+        item = itemRepository.save(item);
+
+        try {
+            int count = handler.processItem(item.getItemKey(), params);
+            item.setStatus(ItemStatus.DONE);
+            item.setResultCount(count);
+            item.setLastError(null);
+        } catch (QuotaExceededException e) {
+            item.setStatus(ItemStatus.PENDING);
+            item.setAttempts(item.getAttempts() - 1);
+            itemRepository.save(item);
+            throw e;
+        } catch (Exception e) {
+            item.setStatus(ItemStatus.FAILED);
+            item.setLastError(truncate(e.getMessage()));
+            log.debug("항목 처리 실패 [{}]: {}", item.getItemKey(), e.getMessage());
+        }
+
+        itemRepository.save(item);
+    }
+
+    private void finish(Long jobId, JobStatus status, String error) {
+        jobRepository.finish(jobId, JobStatus.RUNNING, status, LocalDateTime.now(), truncate(error));
+    }
+
+    private long estimateRemainingSeconds(IngestJob job, long processed, long pending) {
+        if (job.getStatus() != JobStatus.RUNNING || job.getStartedAt() == null || processed == 0) {
+            return 0;
+        }
+        long elapsed = Duration.between(job.getStartedAt(), LocalDateTime.now()).toSeconds();
+        return elapsed * pending / processed;
+    }
+
+    private String writeParams(Map<String, String> params) {
+        try {
+            return objectMapper.writeValueAsString(params != null ? params : Map.of());
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid job params", e);
+        }
+    }
+
+    private Map<String, String> readParams(String json) {
+        if (json == null || json.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(json, new TypeReference<Map<String, String>>() {});
+        } catch (Exception e) {
+            log.warn("⚠️ 작업 파라미터 파싱 실패: {}", json);
+            return Map.of();
+        }
+    }
+
+    private String truncate(String message) {
+        if (message == null) return null;
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
@@ -0,0 +1,272 @@
+package com.socialimpact.tracker.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 뉴스 키워드 분류기 (Aho-Corasick)
+ *
+ * 긍정/부정/무관/종합뉴스 사전과 회사 표기(㈜, (주))를 하나의 오토마톤으로 컴파일해 두고,
+ * 제목과 본문을 한 번만 훑으면서 모든 그룹의 일치 키워드를 모은다.
+ * 대소문자는 구분하지 않는다 (사전과 입력 모두 문자 단위로 소문자 변환).
+ *
+ * 만든 뒤에는 변경되지 않으므로 여러 스레드에서 같이 쓴다.
+ */
+public final class KeywordClassifier {
+
+    public enum Group {
+        POSITIVE,
+        NEGATIVE,
+        IRRELEVANT,
+        SUMMARY,
+        COMPANY_MARKER
+    }
+
+    /**
+     * 사전 항목 하나 (category 는 긍정 키워드 분류, 나머지 그룹은 그룹 이름)
+     */
+    public record Keyword(Group group, String category, String keyword) {
+    }
+
+    // 노드별 전이 (정렬된 문자 → 다음 노드)
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] failure;
+    // 노드에서 끝나는 키워드 (실패 링크로 이어진 것 포함)
+    private final int[][] outputs;
+    private final Keyword[] keywords;
+
+    private KeywordClassifier(char[][] edgeChars, int[][] edgeTargets, int[] failure, int[][] outputs,
+                              Keyword[] keywords) {
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.failure = failure;
+        this.outputs = outputs;
+        this.keywords = keywords;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return keywords.length;
+    }
+
+    /**
+     * 여러 텍스트를 공백 하나로 이어 붙인 것처럼 한 번에 분류 (실제로 이어 붙이지는 않는다)
+     */
+    public Result classify(CharSequence... parts) {
+        Result result = new Result();
+        int state = 0;
+        for (int p = 0; p < parts.length; p++) {
+            if (p > 0) {
+                state = step(state, ' ', result);
+            }
+            CharSequence text = parts[p];
+            if (text == null) {
+                continue;
+            }
+            for (int i = 0, n = text.length(); i < n; i++) {
+                state = step(state, Character.toLowerCase(text.charAt(i)), result);
+            }
+        }
+        return result;
+    }
+
+    private int step(int state, char ch, Result result) {
+        int next;
+        while ((next = transition(state, ch)) < 0 && state != 0) {
+            state = failure[state];
+        }
+        state = Math.max(next, 0);
+
+        for (int id : outputs[state]) {
+            result.add(keywords[id]);
+        }
+        return state;
+    }
+
+    private int transition(int state, char ch) {
+        int i = Arrays.binarySearch(edgeChars[state], ch);
+        return i >= 0 ? edgeTargets[state][i] : -1;
+    }
+
+    /**
+     * 분류 결과 - 그룹별 일치 횟수, 일치한 키워드(처음 나온 순서, 중복 제거)
+     */
+    public static final class Result {
+
+        private final int[] counts = new int[Group.values().length];
+        private final Map<Group, Set<Keyword>> matches = new EnumMap<>(Group.class);
+
+        private void add(Keyword keyword) {
+            counts[keyword.group().ordinal()]++;
+            matches.computeIfAbsent(keyword.group(), g -> new LinkedHashSet<>()).add(keyword);
+        }
+
+        public boolean has(Group group) {
+            return counts[group.ordinal()] > 0;
+        }
+
+        /**
+         * 일치 횟수 (같은 키워드가 여러 번 나오면 모두 센다)
+         */
+        public int count(Group group) {
+            return counts[group.ordinal()];
+        }
+
+        public List<String> keywords(Group group) {
+            Set<Keyword> matched = matches.get(group);
+            if (matched == null) {
+                return List.of();
+            }
+            List<String> result = new ArrayList<>(matched.size());
+            for (Keyword keyword : matched) {
+                if (!result.contains(keyword.keyword())) {
+                    result.add(keyword.keyword());
+                }
+            }
+            return result;
+        }
+
+        /**
+         * 일치한 분류 → 키워드 (처음 나온 순서)
+         */
+        public Map<String, List<String>> categories(Group group) {
+            Set<Keyword> matched = matches.get(group);
+            if (matched == null) {
+                return Map.of();
+            }
+            Map<String, List<String>> result = new LinkedHashMap<>();
+            for (Keyword keyword : matched) {
+                result.computeIfAbsent(keyword.category(), c -> new ArrayList<>()).add(keyword.keyword());
+            }
+            return result;
+        }
+    }
+
+    public static final class Builder {
+
+        private final List<Keyword> keywords = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder add(Group group, String category, String keyword) {
+            if (keyword != null && !keyword.isEmpty()) {
+                keywords.add(new Keyword(group, category, keyword));
+            }
+            return this;
+        }
+
+        public Builder addAll(Group group, String category, Iterable<String> keywords) {
+            for (String keyword : keywords) {
+                add(group, category, keyword);
+            }
+            return this;
+        }
+
+        public Builder addAll(Group group, Iterable<String> keywords) {
+            return addAll(group, group.name(), keywords);
+        }
+
+        public Builder addCategories(Group group, Map<String, ? extends Iterable<String>> categories) {
+            categories.forEach((category, words) -> addAll(group, category, words));
+            return this;
+        }
+
+        public KeywordClassifier build() {
+            // 1. 트라이
+            List<Map<Character, Integer>> trie = new ArrayList<>();
+            List<List<Integer>> ends = new ArrayList<>();
+            trie.add(new HashMap<>());
+            ends.add(new ArrayList<>());
+
+            for (int id = 0; id < keywords.size(); id++) {
+                String word = keywords.get(id).keyword();
+                int node = 0;
+                for (int i = 0; i < word.length(); i++) {
+                    char ch = Character.toLowerCase(word.charAt(i));
+                    Integer next = trie.get(node).get(ch);
+                    if (next == null) {
+                        next = trie.size();
+                        trie.add(new HashMap<>());
+                        ends.add(new ArrayList<>());
+                        trie.get(node).put(ch, next);
+                    }
+                    node = next;
+                }
+                ends.get(node).add(id);
+            }
+
+            int nodes = trie.size();
+            char[][] edgeChars = new char[nodes][];
+            int[][] edgeTargets = new int[nodes][];
+            for (int node = 0; node < nodes; node++) {
+                List<Character> chars = new ArrayList<>(trie.get(node).keySet());
+                Collections.sort(chars);
+                edgeChars[node] = new char[chars.size()];
+                edgeTargets[node] = new int[chars.size()];
+                for (int i = 0; i < chars.size(); i++) {
+                    edgeChars[node][i] = chars.get(i);
+                    edgeTargets[node][i] = trie.get(node).get(chars.get(i));
+                }
+            }
+
+            // 2. 실패 링크 (BFS), 출력은 실패 링크 쪽 출력까지 합쳐 둔다
+            int[] failure = new int[nodes];
+            int[][] outputs = new int[nodes][];
+            outputs[0] = toArray(ends.get(0));
+
+            ArrayDeque<Integer> queue = new ArrayDeque<>();
+            for (int child : edgeTargets[0]) {
+                failure[child] = 0;
+                outputs[child] = toArray(ends.get(child));
+                queue.add(child);
+            }
+            while (!queue.isEmpty()) {
+                int node = queue.poll();
+                for (int i = 0; i < edgeChars[node].length; i++) {
+                    char ch = edgeChars[node][i];
+                    int child = edgeTargets[node][i];
+
+                    int fallback = failure[node];
+                    int target;
+                    while ((target = find(edgeChars, edgeTargets, fallback, ch)) < 0 && fallback != 0) {
+                        fallback = failure[fallback];
+                    }
+                    failure[child] = Math.max(target, 0);
+
+                    int[] own = toArray(ends.get(child));
+                    int[] inherited = outputs[failure[child]];
+                    int[] merged = Arrays.copyOf(own, own.length + inherited.length);
+                    System.arraycopy(inherited, 0, merged, own.length, inherited.length);
+                    outputs[child] = merged;
+                    queue.add(child);
+                }
+            }
+
+            return new KeywordClassifier(edgeChars, edgeTargets, failure, outputs,
+                    keywords.toArray(new Keyword[0]));
+        }
+
+        private static int find(char[][] edgeChars, int[][] edgeTargets, int node, char ch) {
+            int i = Arrays.binarySearch(edgeChars[node], ch);
+            return i >= 0 ? edgeTargets[node][i] : -1;
+        }
+
+        private static int[] toArray(List<Integer> values) {
+            return values.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.socialimpact.tracker.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 긍정 뉴스 분류 규칙 (application.yml 의 positive-news.* 사전)
+ *
+ * - positive-news.keywords: 분류 키 → 긍정 키워드 (쉼표 구분), 저장 시 분류명은 category-labels 로 변환
+ * - positive-news.negative-keywords: 묶음 → 부정 키워드
+ * - positive-news.irrelevant-keywords / summary-keywords: 무관 / 종합뉴스 키워드
+ * - positive-news.org-aliases: 조직명 → 기사에서 쓰는 다른 이름 (OrganizationMentionMatcher)
+ *
+ * positive-news.rules-file 이 있으면 같은 구조의 yml 로 위 항목을 덮어쓴다. 파일이 바뀌면(또는 reload 호출 시)
+ * 새 규칙을 컴파일한 뒤 참조만 바꿔 끼우므로, 수집 중인 스레드는 멈추지 않고 다음 페이지부터 새 규칙을 쓴다.
+ * 규칙 내용의 해시를 버전으로 삼아 저장하는 뉴스마다 기록한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NewsClassificationRules {
+
+    private static final String PREFIX = "positive-news.";
+    private static final List<String> COMPANY_MARKERS = List.of("㈜", "(주)");
+
+    private final ConfigurableEnvironment environment;
+
+    @Value("${positive-news.rules-file:}")
+    private String rulesFile;
+
+    private final AtomicReference<RuleSet> current = new AtomicReference<>();
+
+    private volatile long rulesFileModified = -1;
+
+    /**
+     * 컴파일된 규칙 한 벌 (변경 불가)
+     */
+    public record RuleSet(String version, Map<String, List<String>> positiveCategories,
+                          KeywordClassifier classifier, Map<String, List<String>> orgAliases,
+                          LocalDateTime loadedAt) {
+
+        public List<String> aliasesOf(String organizationName) {
+            return orgAliases.getOrDefault(organizationName, List.of());
+        }
+
+        public Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("version", version);
+            map.put("categories", positiveCategories.keySet());
+            map.put("keywordCount", classifier.size());
+            map.put("aliasedOrganizations", orgAliases.size());
+            map.put("loadedAt", loadedAt.toString());
+            return map;
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        reload();
+    }
+
+    /**
+     * 현재 규칙 (수집 스레드는 페이지마다 한 번 읽는다)
+     */
+    public RuleSet current() {
+        return current.get();
+    }
+
+    /**
+     * 설정을 다시 읽어 컴파일하고 바꿔 끼운다 - 내용이 같으면 그대로 둔다
+     */
+    public synchronized RuleSet reload() {
+        Binder override = loadRulesFile();
+        Binder base = Binder.get(environment);
+
+        Map<String, String> labels = bindMap(override, base, "category-labels");
+        Map<String, List<String>> positive = new LinkedHashMap<>();
+        bindMap(override, base, "keywords").forEach((key, csv) ->
+                positive.computeIfAbsent(labels.getOrDefault(key, key), k -> new ArrayList<>()).addAll(split(csv)));
+
+        Set<String> negative = new LinkedHashSet<>();
+        bindMap(override, base, "negative-keywords").values().forEach(csv -> negative.addAll(split(csv)));
+        List<String> irrelevant = split(bindString(override, base, "irrelevant-keywords"));
+        List<String> summary = split(bindString(override, base, "summary-keywords"));
+        Map<String, List<String>> aliases = new TreeMap<>();
+        bindMap(override, base, "org-aliases").forEach((org, csv) -> aliases.put(org, List.copyOf(split(csv))));
+
+        if (positive.isEmpty()) {
+            throw new IllegalStateException("positive-news.keywords 가 비어 있습니다");
+        }
+
+        String version = version(positive, negative, irrelevant, summary, aliases);
+        RuleSet previous = current.get();
+        if (previous != null && previous.version().equals(version)) {
+            return previous;
+        }
+
+        KeywordClassifier classifier = KeywordClassifier.builder()
+                .addCategories(KeywordClassifier.Group.POSITIVE, positive)
+                .addAll(KeywordClassifier.Group.NEGATIVE, negative)
+                .addAll(KeywordClassifier.Group.IRRELEVANT, irrelevant)
+                .addAll(KeywordClassifier.Group.SUMMARY, summary)
+                .addAll(KeywordClassifier.Group.COMPANY_MARKER, COMPANY_MARKERS)
+                .build();
+
+        Map<String, List<String>> categories = new LinkedHashMap<>();
+        positive.forEach((category, words) -> categories.put(category, List.copyOf(words)));
+        RuleSet rules = new RuleSet(version, Collections.unmodifiableMap(categories), classifier,
+                Collections.unmodifiableMap(aliases), LocalDateTime.now());
+        current.set(rules);
+
+        log.info("📚 뉴스 분류 규칙 {} 적용 (이전: {}) - 긍정 {}분류, 부정 {}, 무관 {}, 종합 {}",
+                version, previous != null ? previous.version() : "-",
+                categories.size(), negative.size(), irrelevant.size(), summary.size());
+        return rules;
+    }
+
+    /**
+     * rules-file 이 바뀌었으면 다시 읽는다
+     */
+    @Scheduled(fixedDelayString = "${positive-news.rules-check-interval-ms:30000}")
+    public void reloadIfChanged() {
+        if (rulesFile == null || rulesFile.isBlank()) {
+            return;
+        }
+        try {
+            Path path = Path.of(rulesFile);
+            long modified = Files.exists(path) ? Files.getLastModifiedTime(path).toMillis() : 0;
+            if (modified != rulesFileModified) {
+                reload();
+            }
+        } catch (Exception e) {
+            // 잘못된 파일이면 기존 규칙 유지
+            log.warn("⚠️ 뉴스 분류 규칙 재적용 실패 ({}): {}", rulesFile, e.getMessage());
+        }
+    }
+
+    private Binder loadRulesFile() {
+        if (rulesFile == null || rulesFile.isBlank()) {
+            return null;
+        }
+
+        Path path = Path.of(rulesFile);
+        try {
+            if (!Files.exists(path)) {
+                rulesFileModified = 0;
+                return null;
+            }
+            rulesFileModified = Files.getLastModifiedTime(path).toMillis();
+            List<PropertySource<?>> sources = new YamlPropertySourceLoader()
+                    .load("news-rules", new FileSystemResource(path));
+            return new Binder(ConfigurationPropertySources.from(sources));
+        } catch (IOException e) {
+            throw new IllegalStateException("뉴스 분류 규칙 파일을 읽을 수 없습니다: " + rulesFile, e);
+        }
+    }
+
+    private static Map<String, String> bindMap(Binder override, Binder base, String name) {
+        Bindable<Map<String, String>> type = Bindable.mapOf(String.class, String.class);
+        if (override != null) {
+            Map<String, String> value = override.bind(PREFIX + name, type).orElse(null);
+            if (value != null) {
+                return value;
+            }
+        }
+        return base.bind(PREFIX + name, type).orElse(Map.of());
+    }
+
+    private static String bindString(Binder override, Binder base, String name) {
+        if (override != null) {
+            String value = override.bind(PREFIX + name, String.class).orElse(null);
+            if (value != null) {
+                return value;
+            }
+        }
+        return base.bind(PREFIX + name, String.class).orElse("");
+    }
+
+    private static List<String> split(String csv) {
+        List<String> words = new ArrayList<>();
+        for (String word : csv.split(",")) {
+            if (!word.isBlank()) {
+                words.add(word.trim());
+            }
+        }
+        return words;
+    }
+
+    /**
+     * 규칙 내용 해시 앞 12자리 (같은 규칙이면 재시작해도 같은 버전)
+     */
+    private static String version(Map<String, List<String>> positive, Set<String> negative,
+                                  List<String> irrelevant, List<String> summary,
+                                  Map<String, List<String>> aliases) {
+        String canonical = new TreeMap<>(positive) + "|" + negative + "|" + irrelevant + "|" + summary
+                + "|" + aliases;
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 6);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.socialimpact.tracker.service;
+
+import com.socialimpact.tracker.entity.PositiveNews;
+import com.socialimpact.tracker.repository.PositiveNewsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 긍정 뉴스 중복 확인 (URL / 같은 조직의 같은 제목)
+ *
+ * 저장된 뉴스의 64비트 URL 해시, 제목 해시를 시작할 때 블룸 필터에 올려 두고,
+ * 필터에 "있을 수도 있음"으로 나온 경우에만 해시 인덱스(url_hash, title_hash)로 DB 를 확인한다.
+ * 새 기사 대부분은 DB 조회 없이 걸러진다. 필터가 준비되기 전에는 항상 DB 를 확인한다.
+ *
+ * 블룸 필터는 지울 수 없으므로 뉴스를 지운 뒤에는 reload() 로 다시 만든다 (안 해도 DB 확인이 늘 뿐 결과는 같다).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NewsDedupFilter {
+
+    private static final int BACKFILL_BATCH_SIZE = 1000;
+
+    private final PositiveNewsRepository positiveNewsRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${positive-news.dedup.expected-items:1000000}")
+    private int expectedItems;
+
+    @Value("${positive-news.dedup.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    private volatile BloomFilter urls;
+    private volatile BloomFilter titles;
+
+    /**
+     * 저장된 뉴스 해시로 필터 구성 (해시가 비어 있는 예전 행은 먼저 채운다)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reload() {
+        long startedAt = System.currentTimeMillis();
+        urls = null;
+        titles = null;
+
+        int backfilled = backfillHashes();
+
+        BloomFilter urlFilter = new BloomFilter(expectedItems, falsePositiveRate);
+        BloomFilter titleFilter = new BloomFilter(expectedItems, falsePositiveRate);
+        int[] rows = {0};
+        jdbcTemplate.query("SELECT url_hash, title_hash FROM positive_news", rs -> {
+            urlFilter.add(rs.getLong(1));
+            titleFilter.add(rs.getLong(2));
+            rows[0]++;
+        });
+
+        urls = urlFilter;
+        titles = titleFilter;
+        log.info("🧮 뉴스 중복 필터 준비: {}건 ({}건 해시 보정), {}KB, {}ms",
+                rows[0], backfilled, urlFilter.sizeInBytes() * 2 / 1024, System.currentTimeMillis() - startedAt);
+    }
+
+    public boolean isKnownUrl(String url) {
+        long hash = urlHash(url);
+        BloomFilter filter = urls;
+        if (filter != null && !filter.mightContain(hash)) {
+            return false;
+        }
+        return positiveNewsRepository.existsByUrlHashAndUrl(hash, url);
+    }
+
+    public boolean isKnownTitle(Long orgId, String title) {
+        long hash = titleHash(orgId, title);
+        BloomFilter filter = titles;
+        if (filter != null && !filter.mightContain(hash)) {
+            return false;
+        }
+        return positiveNewsRepository.existsByTitleHashAndOrganization_Id(hash, orgId);
+    }
+
+    /**
+     * 저장 대상 뉴스에 해시를 채운다
+     */
+    public void stamp(PositiveNews news) {
+        news.setUrlHash(urlHash(news.getUrl()));
+        news.setTitleHash(titleHash(news.getOrganizationId(), news.getTitle()));
+    }
+
+    /**
+     * 저장한 뉴스를 필터에 추가
+     */
+    public void remember(List<PositiveNews> saved) {
+        BloomFilter urlFilter = urls;
+        BloomFilter titleFilter = titles;
+        if (urlFilter == null || titleFilter == null) {
+            return; // 다시 만드는 중 - DB 에서 읽힌다
+        }
+        for (PositiveNews news : saved) {
+            urlFilter.add(news.getUrlHash());
+            titleFilter.add(news.getTitleHash());
+        }
+    }
+
+    public static long urlHash(String url) {
+        return hash64(url.trim(), 0L);
+    }
+
+    /**
+     * 같은 조직 안에서의 제목 해시 (공백/대소문자 차이는 무시)
+     */
+    public static long titleHash(Long orgId, String title) {
+        String normalized = title.trim().replaceAll("\\s+", " ").toLowerCase();
+        return hash64(normalized, orgId != null ? orgId : 0L);
+    }
+
+    private int backfillHashes() {
+        int total = 0;
+        while (true) {
+            List<Object[]> batch = jdbcTemplate.query(
+                    "SELECT id, url, organization_id, title FROM positive_news WHERE url_hash IS NULL LIMIT "
+                            + BACKFILL_BATCH_SIZE,
+                    (rs, i) -> new Object[]{rs.getLong(1), rs.getString(2), rs.getLong(3), rs.getString(4)});
+            if (batch.isEmpty()) {
+                return total;
+            }
+
+            List<Object[]> params = new ArrayList<>(batch.size());
+            for (Object[] row : batch) {
+                params.add(new Object[]{
+                        urlHash((String) row[1]),
+                        titleHash((Long) row[2], (String) row[3]),
+                        row[0]
+                });
+            }
+            jdbcTemplate.batchUpdate("UPDATE positive_news SET url_hash = ?, title_hash = ? WHERE id = ?", params);
+            total += batch.size();
+        }
+    }
+
+    // FNV-1a 64 + murmur3 마무리 섞기
+    private static long hash64(String value, long seed) {
+        long h = 0xcbf29ce484222325L ^ (seed * 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * long 해시용 블룸 필터 (비트 설정은 CAS 라 여러 수집 스레드가 같이 추가해도 된다)
+     */
+    static final class BloomFilter {
+
+        private final AtomicLongArray bits;
+        private final long bitCount;
+        private final int hashCount;
+
+        BloomFilter(int expectedItems, double falsePositiveRate) {
+            int n = Math.max(expectedItems, 1);
+            long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            int words = (int) Math.max(1, (m + 63) / 64);
+            this.bits = new AtomicLongArray(words);
+            this.bitCount = (long) words * 64;
+            this.hashCount = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+        }
+
+        void add(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long current;
+                while (((current = bits.get(word)) & mask) == 0
+                        && !bits.compareAndSet(word, current, current | mask)) {
+                    // 다른 스레드가 같은 칸을 바꿨으면 다시 시도
+                }
+            }
+        }
+
+        boolean mightContain(long hash) {
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= hashCount; i++) {
+                long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+                if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        long sizeInBytes() {
+            return bitCount / 8;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.socialimpact.tracker.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 조직 하나의 네이버 뉴스 검색어 계획
+ *
+ * 키워드마다 "조직명 키워드" 로 따로 검색하면 결과가 대부분 겹치고 URL 중복으로 버려진다.
+ * 키워드를 분류 순서대로 네이버 OR 연산자(|)로 묶어 "조직명 기부 | 후원 | 기증 ..." 한 번으로 검색하고
+ * (분류가 작으면 다음 분류 키워드까지 같은 검색어에 채운다),
+ * 분류와 matchedKeywords 는 수집 쪽에서 KeywordClassifier 로 본문을 다시 분류해 정한다.
+ *
+ * 재현율은 키워드별 검색과 같지 않다.
+ * - 검색어 하나는 start 상한(1000건)과 페이지 예산을 묶인 키워드 전체가 나눠 쓰므로, 기사가 많은 조직은 깊이가 줄어든다.
+ * - "조직명 a | b" 가 "조직명 (a | b)" 인지 "(조직명 a) | b" 인지는 네이버 문서에 없고 확인되지 않았다.
+ *   뒤쪽으로 해석되면 조직과 무관한 b 기사가 창을 채운다 (OrganizationMentionMatcher 가 걸러 정확도는 지키지만 재현율은 준다).
+ * 그래서 묶는 키워드 수를 작게 두고(maxTermsPerQuery), 수집 쪽은 창을 다 쓰고도 기사가 남은 검색어를
+ * split() 으로 키워드별 검색어로 다시 나눠 검색한다.
+ *
+ * 한 검색어에 묶는 키워드 수는 maxTermsPerQuery 까지 (1 이면 예전처럼 키워드마다 검색).
+ * 마지막에 조직명 단독 검색을 하나 붙인다.
+ */
+public final class NewsQueryPlanner {
+
+    private static final String OR = " | ";
+
+    private NewsQueryPlanner() {
+    }
+
+    /**
+     * 검색어 하나
+     *
+     * @param categories 이 검색어에 키워드가 들어간 분류, 순서대로 (조직명 단독 검색은 비어 있음)
+     * @param keywords   묶인 키워드
+     */
+    public record Query(String text, List<String> categories, List<String> keywords) {
+
+        public boolean isBroad() {
+            return categories.isEmpty();
+        }
+    }
+
+    public static List<Query> plan(String organizationName, Map<String, List<String>> categories,
+                                   int maxTermsPerQuery) {
+        String name = organizationName.trim();
+        int limit = Math.max(1, maxTermsPerQuery);
+        List<Query> queries = new ArrayList<>();
+
+        Set<String> seen = new LinkedHashSet<>();
+        Set<String> chunkCategories = new LinkedHashSet<>();
+        List<String> chunk = new ArrayList<>();
+        for (Map.Entry<String, List<String>> entry : categories.entrySet()) {
+            for (String keyword : entry.getValue()) {
+                String term = keyword.trim();
+                if (term.isEmpty() || !seen.add(term.toLowerCase(Locale.ROOT))) {
+                    continue;
+                }
+                chunk.add(term);
+                chunkCategories.add(entry.getKey());
+                if (chunk.size() == limit) {
+                    queries.add(toQuery(name, chunkCategories, chunk));
+                    chunk.clear();
+                    chunkCategories.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            queries.add(toQuery(name, chunkCategories, chunk));
+        }
+
+        queries.add(new Query(name, List.of(), List.of()));
+        return queries;
+    }
+
+    /**
+     * 묶인 검색어를 키워드별 검색어로 나눈다 (분류는 categories 에서 그 키워드가 처음 나오는 분류)
+     */
+    public static List<Query> split(String organizationName, Query query, Map<String, List<String>> categories) {
+        String name = organizationName.trim();
+        List<Query> queries = new ArrayList<>(query.keywords().size());
+        for (String term : query.keywords()) {
+            Set<String> termCategories = new LinkedHashSet<>();
+            for (Map.Entry<String, List<String>> entry : categories.entrySet()) {
+                if (entry.getValue().stream().anyMatch(keyword -> keyword.trim().equalsIgnoreCase(term))) {
+                    termCategories.add(entry.getKey());
+                    break;
+                }
+            }
+            if (termCategories.isEmpty()) {
+                termCategories.addAll(query.categories());
+            }
+            queries.add(toQuery(name, termCategories, List.of(term)));
+        }
+        return queries;
+    }
+
+    /**
+     * 키워드마다 검색했을 때의 검색어 수 (서로 다른 키워드 수 + 조직명 단독 검색, plan(…, 1) 의 크기와 같다)
+     */
+    public static int unplannedQueryCount(Map<String, List<String>> categories) {
+        Set<String> seen = new LinkedHashSet<>();
+        for (List<String> keywords : categories.values()) {
+            for (String keyword : keywords) {
+                String term = keyword.trim();
+                if (!term.isEmpty()) {
+                    seen.add(term.toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return seen.size() + 1;
+    }
+
+    // 공백이 든 키워드는 OR 로 묶으면 낱말로 쪼개지므로 따옴표로 감싼다
+    private static Query toQuery(String name, Set<String> categories, List<String> terms) {
+        List<String> quoted = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            quoted.add(term.contains(" ") ? "\"" + term + "\"" : term);
+        }
+        return new Query(name + " " + String.join(OR, quoted), List.copyOf(categories), List.copyOf(terms));
+    }
+}
@@ -0,0 +1,68 @@
+package com.socialimpact.tracker.service;
+
+import com.socialimpact.tracker.entity.Organization;
+import com.socialimpact.tracker.repository.OrganizationRepository;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 조직 이름 → id 색인 (일괄 임포트 한 번 동안 사용)
+ *
+ * 엔티티 대신 [id, name] 만 읽어 두고, 없는 이름은 그 자리에서 만들어 색인에 추가한다.
+ * 돌려주는 Organization 은 id/name 만 채운 참조용 객체다 (연관관계 키로만 사용).
+ */
+@Slf4j
+public final class OrganizationDirectory {
+
+    private final OrganizationRepository organizationRepository;
+    private final Map<String, Organization> byName;
+
+    private OrganizationDirectory(OrganizationRepository organizationRepository, Map<String, Organization> byName) {
+        this.organizationRepository = organizationRepository;
+        this.byName = byName;
+    }
+
+    public static OrganizationDirectory load(OrganizationRepository organizationRepository) {
+        List<Object[]> rows = organizationRepository.findIdNames();
+        Map<String, Organization> byName = new HashMap<>(Math.max(16, rows.size() * 2));
+        for (Object[] row : rows) {
+            // 이름이 같은 조직이 여럿이면 먼저 등록된 것
+            byName.putIfAbsent((String) row[1], reference((Long) row[0], (String) row[1]));
+        }
+        return new OrganizationDirectory(organizationRepository, byName);
+    }
+
+    /**
+     * 이름으로 찾고, 없으면 상장사로 새로 등록
+     */
+    public synchronized Organization resolveOrCreate(String name) {
+        Organization found = byName.get(name);
+        if (found != null) {
+            return found;
+        }
+
+        Organization newOrg = new Organization();
+        newOrg.setName(name);
+        newOrg.setType("상장사");
+        Organization saved = organizationRepository.save(newOrg);
+        log.info("  🏢 새 조직 생성: {}", name);
+
+        Organization created = reference(saved.getId(), saved.getName());
+        byName.put(name, created);
+        return created;
+    }
+
+    public int size() {
+        return byName.size();
+    }
+
+    private static Organization reference(Long id, String name) {
+        Organization org = new Organization();
+        org.setId(id);
+        org.setName(name);
+        return org;
+    }
+}
@@ -0,0 +1,175 @@
+package com.socialimpact.tracker.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 기사 본문에 조직이 언급됐는지 판별 (조직 하나당 한 번 만들어 수집 동안 재사용)
+ *
+ * 별칭: 원래 이름, 회사 형태(주식회사, (주), ㈜ ...)를 뗀 이름, 영문/한글 표기(SK ↔ 에스케이 ...),
+ * 설정의 positive-news.org-aliases.
+ *
+ * 경계 규칙 (정규식 \b 는 한글을 단어 문자로 봐서 "삼성전자는" 을 놓치고 "신한화" 같은 부분 일치는 거르지 못한다):
+ * - 앞: 같은 문자 종류(한글 / 영문·숫자)가 붙어 있으면 다른 단어의 일부로 본다
+ * - 뒤: 영문·숫자 별칭 뒤에 영문·숫자가 오면 불일치, 한글이 오면 조사(는, 가, 의, 와 ...)일 때만 일치
+ */
+public final class OrganizationMentionMatcher {
+
+    private static final int MIN_ALIAS_LENGTH = 2;
+
+    private static final String[] CORPORATE_FORMS = {"주식회사", "(주)", "㈜", "유한회사", "(유)"};
+
+    private static final String[][] SPELLINGS = {
+            {"SK", "에스케이"},
+            {"LG", "엘지"},
+            {"KT", "케이티"},
+            {"GS", "지에스"},
+            {"CJ", "씨제이"},
+            {"KB", "케이비"},
+            {"POSCO", "포스코"}
+    };
+
+    // 이름 바로 뒤에 붙는 조사/접미 (긴 것 먼저)
+    private static final String[] PARTICLES = {
+            "으로부터", "에서는", "에게서", "으로는", "께서", "에서", "에게", "으로", "부터", "까지", "보다", "처럼",
+            "과의", "와의", "측은", "측이", "은", "는", "이", "가", "을", "를", "의", "에", "와", "과", "도", "로",
+            "만", "측", "社"
+    };
+
+    private final String name;
+    private final String[] aliases;
+
+    private OrganizationMentionMatcher(String name, String[] aliases) {
+        this.name = name;
+        this.aliases = aliases;
+    }
+
+    public static OrganizationMentionMatcher of(String name, Collection<String> extraAliases) {
+        Set<String> aliases = new LinkedHashSet<>();
+        String trimmed = name.trim();
+        aliases.add(trimmed);
+
+        String stripped = trimmed;
+        for (String form : CORPORATE_FORMS) {
+            stripped = stripped.replace(form, "");
+        }
+        stripped = stripped.trim();
+        aliases.add(stripped);
+
+        for (String[] spelling : SPELLINGS) {
+            if (stripped.contains(spelling[0])) {
+                aliases.add(stripped.replace(spelling[0], spelling[1]));
+            } else if (stripped.contains(spelling[1])) {
+                aliases.add(stripped.replace(spelling[1], spelling[0]));
+            }
+        }
+
+        if (extraAliases != null) {
+            for (String alias : extraAliases) {
+                if (alias != null) {
+                    aliases.add(alias.trim());
+                }
+            }
+        }
+
+        // 긴 별칭부터 (짧은 별칭이 경계에서 걸러져도 긴 별칭이 맞을 수 있다)
+        List<String> usable = new ArrayList<>();
+        for (String alias : aliases) {
+            if (alias.length() >= MIN_ALIAS_LENGTH) {
+                usable.add(alias);
+            }
+        }
+        usable.sort(Comparator.comparingInt(String::length).reversed());
+        return new OrganizationMentionMatcher(trimmed, usable.toArray(new String[0]));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<String> getAliases() {
+        return List.of(aliases);
+    }
+
+    /**
+     * 텍스트 중 하나라도 조직을 언급하면 true
+     */
+    public boolean isMentionedIn(String... texts) {
+        for (String text : texts) {
+            if (text != null && find(text) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 첫 언급 위치 (없으면 -1)
+     */
+    public int find(String text) {
+        for (String alias : aliases) {
+            int from = 0;
+            int at;
+            while ((at = indexOfIgnoreCase(text, alias, from)) >= 0) {
+                if (isBoundary(text, at, alias)) {
+                    return at;
+                }
+                from = at + 1;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isBoundary(String text, int at, String alias) {
+        if (at > 0 && sameKind(text.charAt(at - 1), alias.charAt(0))) {
+            return false;
+        }
+
+        int end = at + alias.length();
+        if (end >= text.length()) {
+            return true;
+        }
+
+        char next = text.charAt(end);
+        if (isHangul(next)) {
+            for (String particle : PARTICLES) {
+                if (text.startsWith(particle, end)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return !(isLatinOrDigit(next) && isLatinOrDigit(alias.charAt(alias.length() - 1)));
+    }
+
+    private static boolean sameKind(char a, char b) {
+        return (isHangul(a) && isHangul(b)) || (isLatinOrDigit(a) && isLatinOrDigit(b));
+    }
+
+    private static boolean isHangul(char ch) {
+        return ch >= '가' && ch <= '힣';
+    }
+
+    private static boolean isLatinOrDigit(char ch) {
+        return (ch >= 'a' && ch <= 'z') || (ch >= 'A' && ch <= 'Z') || (ch >= '0' && ch <= '9');
+    }
+
+    private static int indexOfIgnoreCase(String text, String alias, int from) {
+        char first = alias.charAt(0);
+        char upper = Character.toUpperCase(first);
+        char lower = Character.toLowerCase(first);
+        int last = text.length() - alias.length();
+
+        for (int i = from; i <= last; i++) {
+            char ch = text.charAt(i);
+            if ((ch == upper || ch == lower) && text.regionMatches(true, i, alias, 0, alias.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
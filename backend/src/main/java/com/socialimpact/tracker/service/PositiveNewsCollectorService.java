@@ -2,6 +2,8 @@ package com.socialimpact.tracker.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.socialimpact.tracker.client.AdaptiveRateLimiter;
+import com.socialimpact.tracker.client.UpstreamResponseCache;
 import com.socialimpact.tracker.entity.Organization;
 import com.socialimpact.tracker.entity.PositiveNews;
 import com.socialimpact.tracker.repository.OrganizationRepository;
@@ -9,39 +11,38 @@ import com.socialimpact.tracker.repository.PositiveNewsRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
+import org.springframework.web.util.DefaultUriBuilderFactory;
 
-import java.io.File;
-import java.io.FileWriter;
-import java.nio.file.Files;
-import java.nio.file.Paths;
+import java.net.URI;
 import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class PositiveNewsCollectorService {
+public class PositiveNewsCollectorService implements IngestJobHandler {
 
-    private final WebClient.Builder webClientBuilder;
-    private final PositiveNewsRepository positiveNewsRepository;
-    private final OrganizationRepository organizationRepository;
-    private final ApplicationContext applicationContext;
+    public static final String JOB_TYPE = "POSITIVE_NEWS";
 
-    @Value("${naver.api.client-id}")
-    private String clientId;
+    // 네이버 검색 API start 상한
+    private static final int MAX_START = 1000;
 
-    @Value("${naver.api.client-secret}")
-    private String clientSecret;
+    private final WebClient naverWebClient;
+    private final ObjectMapper objectMapper;
+    private final PositiveNewsRepository positiveNewsRepository;
+    private final OrganizationRepository organizationRepository;
+    private final AdaptiveRateLimiter naverRateLimiter;
+    private final PositiveNewsWriter positiveNewsWriter;
+    private final UpstreamResponseCache responseCache;
+    private final NewsClassificationRules newsRules;
+    private final NewsDedupFilter dedupFilter;
 
     @Value("${naver.api.search-url}")
     private String searchUrl;
@@ -49,316 +50,256 @@ public class PositiveNewsCollectorService {
     @Value("${positive-news.display:100}")
     private int display;
 
-    private final AtomicInteger totalOrgs = new AtomicInteger(0);
-    private final AtomicInteger processedOrgs = new AtomicInteger(0);
-    private final AtomicInteger totalCollectedNews = new AtomicInteger(0);
-    private volatile boolean isCollecting = false;
-    private volatile boolean apiLimitReached = false;  // ← 추가
-
-    private static final String CHECKPOINT_FILE = "news_collection_checkpoint.txt";
-
-    private static final Map<String, List<String>> POSITIVE_KEYWORD_CATEGORIES = Map.ofEntries(
-            Map.entry("기부", Arrays.asList("기부", "후원", "기증", "장학금", "지원금", "성금", "모금", "전달식")),
-            Map.entry("봉사", Arrays.asList("봉사", "재능기부", "사회공헌", "자원봉사", "나눔")),
-            Map.entry("환경", Arrays.asList("친환경", "탄소중립", "재생에너지", "ESG", "녹색경영", "환경보호")),
-            Map.entry("교육", Arrays.asList("교육지원", "멘토링", "장학생", "인재양성", "교육기부")),
-            Map.entry("일자리", Arrays.asList("일자리창출", "채용확대", "신규채용", "청년고용", "정규직전환")),
-            Map.entry("지역사회", Arrays.asList("지역사회", "상생협력", "MOU", "업무협약", "협약식")),
-            Map.entry("윤리경영", Arrays.asList("윤리경영", "투명경영", "준법경영", "공정거래")),
-            Map.entry("혁신", Arrays.asList("R&D투자", "기술개발", "혁신", "특허"))
-    );
-
-    private static final Set<String> NEGATIVE_KEYWORDS = new HashSet<>(Arrays.asList(
-            "기소", "구속", "벌금", "과징금", "제재", "처벌", "징역", "실형", "법원", "재판", "소송",
-            "고소", "고발", "수사", "검찰", "경찰", "횡령", "배임", "사기", "뇌물", "비리", "탈세",
-            "적자", "손실", "부채", "파산", "회생", "구조조정", "감원", "해고", "정리해고", "희망퇴직",
-            "사고", "화재", "폭발", "리콜", "결함", "불량", "오염", "파업", "태업", "쟁의",
-            "논란", "비판", "질타", "반발", "항의", "의혹", "추정", "의심", "불투명",
-            "청소원", "경비원", "사외이사", "이사회참석", "불참", "체력시험"
-    ));
-
-    private static final Set<String> IRRELEVANT_KEYWORDS = new HashSet<>(Arrays.asList(
-            "날씨", "교통", "부동산", "아파트", "축구", "야구", "드라마", "영화", "연예인", "맛집"
-    ));
-
-    private static final Set<String> SUMMARY_NEWS_KEYWORDS = new HashSet<>(Arrays.asList(
-            "장 마감 후", "장마감후", "e공시", "공시 눈에 띄네", "주요공시", "주요 공시",
-            "증권사 주요 공시", "오늘의 공시", "공시 요약"
-    ));
-
-    private void saveCheckpoint(Long orgId) {
-        try {
-            FileWriter writer = new FileWriter(CHECKPOINT_FILE);
-            writer.write(String.valueOf(orgId));
-            writer.close();
-            log.info("💾 체크포인트 저장: {}", orgId);
-        } catch (Exception e) {
-            log.warn("체크포인트 저장 실패: {}", e.getMessage());
-        }
-    }
+    @Value("${positive-news.max-pages:10}")
+    private int maxPages;
 
-    private Long loadCheckpoint() {
-        try {
-            File file = new File(CHECKPOINT_FILE);
-            if (file.exists()) {
-                String content = new String(Files.readAllBytes(Paths.get(CHECKPOINT_FILE)));
-                return Long.parseLong(content.trim());
-            }
-        } catch (Exception e) {
-            log.warn("체크포인트 로드 실패: {}", e.getMessage());
-        }
-        return null;
-    }
+    @Value("${positive-news.max-stale-pages:2}")
+    private int maxStalePages;
 
-    private void deleteCheckpoint() {
-        try {
-            new File(CHECKPOINT_FILE).delete();
-            log.info("✅ 체크포인트 삭제");
-        } catch (Exception e) {
-            log.warn("체크포인트 삭제 실패: {}", e.getMessage());
-        }
-    }
+    @Value("${upstream.cache.ttl.naver-search:12h}")
+    private Duration searchCacheTtl;
 
-    private void shutdownServer(String reason) {
-        log.error("🛑 서버 종료 시작: {}", reason);
-        log.info("📊 최종 통계:");
-        log.info("   - 총 처리: {} / {}", processedOrgs.get(), totalOrgs.get());
-        log.info("   - 수집 뉴스: {} 건", totalCollectedNews.get());
+    @Value("${positive-news.parallelism:4}")
+    private int parallelism;
 
-        new Thread(() -> {
-            try {
-                Thread.sleep(5000);
-                log.info("👋 서버 종료 중...");
-                System.exit(0);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-        }).start();
-    }
+    @Value("${positive-news.query-planner.max-terms:3}")
+    private int maxTermsPerQuery;
+
+    private final Map<Long, Map<String, Object>> plannerStats = new ConcurrentHashMap<>();
 
-    public void collectAllPositiveNews(int fromYear, int toYear) {
-        collectAllPositiveNews(fromYear, toYear, false);
+    @Override
+    public String getJobType() {
+        return JOB_TYPE;
     }
 
-    public void collectAllPositiveNews(int fromYear, int toYear, boolean clearBeforeCollect) {
-        if (isCollecting) {
-            log.warn("⚠️ 이미 수집 작업이 진행 중입니다!");
-            return;
+    /**
+     * 작업 항목 = 전체 조직 id (clearBefore=true 이면 기존 뉴스 삭제 후 시작)
+     */
+    @Override
+    public List<String> planItems(Map<String, String> params) {
+        if (Boolean.parseBoolean(params.getOrDefault("clearBefore", "false"))) {
+            clearAllNews();
         }
 
-        isCollecting = true;
-        apiLimitReached = false;  // ← 초기화
-        long startTime = System.currentTimeMillis();
-
-        try {
-            log.info("🚀 긍정 뉴스 수집 시작 ({} - {})", fromYear, toYear);
-
-            if (clearBeforeCollect) {
-                clearAllNews();
-                deleteCheckpoint();
-            }
-
-            Long startFromId = loadCheckpoint();
-            if (startFromId != null) {
-                log.info("📍 체크포인트 발견: ID {} 부터 재시작", startFromId);
-            }
-
-            List<Organization> allOrgs = organizationRepository.findAll();
-
-            List<Organization> organizations;
-            if (startFromId != null) {
-                Long finalStartFromId = startFromId;
-                organizations = allOrgs.stream()
-                        .filter(org -> org.getId() >= finalStartFromId)
-                        .collect(Collectors.toList());
-                log.info("재시작: {} 개 조직 처리 (전체 {}개 중)", organizations.size(), allOrgs.size());
-            } else {
-                organizations = allOrgs;
-            }
-
-            totalOrgs.set(organizations.size());
-            processedOrgs.set(0);
-            totalCollectedNews.set(0);
-
-            log.info("✅ 총 {} 개 조직에서 뉴스 수집", organizations.size());
-
-            for (Organization org : organizations) {
-                // ← API 제한 체크 추가
-                if (apiLimitReached) {
-                    log.error("🚫 API 제한 감지, 전체 수집 중단");
-                    saveCheckpoint(org.getId());
-                    break;
-                }
-
-                try {
-                    int newsCount = collectPositiveNewsForOrganization(org, fromYear, toYear);
-
-                    // ← API 제한 체크
-                    if (apiLimitReached) {
-                        log.error("🚫 API 제한 감지, 수집 중단");
-                        saveCheckpoint(org.getId());
-                        break;
-                    }
-
-                    totalCollectedNews.addAndGet(newsCount);
-                    processedOrgs.incrementAndGet();
-
-                    if (newsCount > 0) {
-                        int progress = (int) (processedOrgs.get() * 100.0 / totalOrgs.get());
-                        log.info("✅ [{}] {} 건 수집 | 진행: {}/{} ({}%) | 누적: {} 건",
-                                org.getName(), newsCount,
-                                processedOrgs.get(), totalOrgs.get(), progress,
-                                totalCollectedNews.get());
-                    } else if (processedOrgs.get() % 10 == 0) {
-                        int progress = (int) (processedOrgs.get() * 100.0 / totalOrgs.get());
-                        log.info("진행: {} / {} ({}%) | 누적 뉴스: {} 건",
-                                processedOrgs.get(), totalOrgs.get(), progress, totalCollectedNews.get());
-                    }
-
-                    saveCheckpoint(org.getId() + 1);
-                    Thread.sleep(100);
+        return organizationRepository.findAll().stream()
+                .map(org -> String.valueOf(org.getId()))
+                .collect(Collectors.toList());
+    }
 
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    log.warn("작업 중단됨");
-                    break;
-                } catch (Exception e) {
-                    log.error("❌ 회사 수집 실패 [{}]: {}", org.getName(), e.getMessage());
-                }
-            }
+    /**
+     * 조직 단위로 동시에 수집 - 호출 속도(naverRateLimiter)와 일일 한도(naverDailyQuota)는 공용
+     */
+    @Override
+    public int itemConcurrency() {
+        return parallelism;
+    }
 
-            if (processedOrgs.get() >= organizations.size()) {
-                deleteCheckpoint();
-                log.info("✅ 전체 수집 완료!");
-            } else {
-                log.warn("⚠️ 일부만 완료됨 (체크포인트 유지)");
-            }
+    @Override
+    public int processItem(String orgId, Map<String, String> params) {
+        Organization org = organizationRepository.findById(Long.valueOf(orgId))
+                .orElseThrow(() -> new IllegalArgumentException("Organization not found: " + orgId));
 
-            long elapsedTime = System.currentTimeMillis() - startTime;
-            log.info("처리: {} 개 | 수집: {} 건 | 소요: {} 초",
-                    processedOrgs.get(), totalCollectedNews.get(), elapsedTime / 1000);
+        int fromYear = Integer.parseInt(params.getOrDefault("fromYear", "2015"));
+        int toYear = Integer.parseInt(params.getOrDefault("toYear", "2025"));
 
-        } catch (Exception e) {
-            log.error("❌ 전체 수집 작업 중 오류", e);
-        } finally {
-            isCollecting = false;
+        int newsCount = collectPositiveNewsForOrganization(org, fromYear, toYear);
+        if (newsCount > 0) {
+            log.info("✅ [{}] {} 건 수집", org.getName(), newsCount);
         }
+        return newsCount;
     }
 
-    @Transactional
     public void clearAllNews() {
         long count = positiveNewsRepository.count();
         if (count > 0) {
             log.info("🗑️ 기존 뉴스 삭제 중: {} 건", count);
-            positiveNewsRepository.deleteAll();
-            positiveNewsRepository.flush();
+            positiveNewsWriter.deleteAll();
+            dedupFilter.reload();
             log.info("✅ 삭제 완료");
         }
     }
 
-    @Transactional
+    /**
+     * 조직 하나의 긍정 뉴스 수집 (검색/필터링은 트랜잭션 밖, 저장은 검색 결과 페이지 단위)
+     *
+     * 검색어는 NewsQueryPlanner 가 키워드를 OR 로 묶어 만들고, 분류는 본문을 다시 분류해 정한다.
+     * 묶인 검색어가 start 상한까지 기사를 다 쓰고도 더 남아 있으면 키워드별 검색어로 나눠 다시 검색한다.
+     */
     public int collectPositiveNewsForOrganization(Organization org, int fromYear, int toYear) {
         Set<String> processedUrls = ConcurrentHashMap.newKeySet();
         int totalCount = 0;
+        int pages = 0;
+        int unplannedPages = 0;
+
+        // 조직 언급 판별과 검색어 계획은 수집 시작 시 한 번만 준비
+        NewsClassificationRules.RuleSet startRules = newsRules.current();
+        OrganizationMentionMatcher mention = OrganizationMentionMatcher.of(org.getName(),
+                startRules.aliasesOf(org.getName()));
+        Deque<NewsQueryPlanner.Query> queries = new ArrayDeque<>(NewsQueryPlanner.plan(org.getName(),
+                startRules.positiveCategories(), maxTermsPerQuery));
+        int queryCount = 0;
+
+        while (!queries.isEmpty()) {
+            NewsQueryPlanner.Query query = queries.poll();
+            queryCount++;
+            try {
+                QueryResult result = searchAndSaveNews(org, mention, query, fromYear, toYear, processedUrls);
+                totalCount += result.saved();
+                pages += result.pages();
+
+                if (result.truncated() && query.keywords().size() > 1) {
+                    // 이미 모은 URL 은 processedUrls 로 건너뛰므로 나눠 검색해도 중복 저장은 없다
+                    log.debug("  ↪ [{}] {} 창 초과 - 키워드별로 나눠 검색", org.getName(), query.text());
+                    NewsQueryPlanner.split(org.getName(), query, startRules.positiveCategories())
+                            .forEach(queries::addLast);
+                } else {
+                    // 키워드별로 검색했다면: 키워드마다 최소 한 페이지, 합쳐서 묶은 검색어보다 적지는 않다 (하한)
+                    unplannedPages += Math.max(result.pages(), Math.max(1, query.keywords().size()));
+                }
+
+                if (result.saved() > 0) {
+                    log.info("  ✓ [{}] {}: {} 건", org.getName(),
+                            query.isBroad() ? "회사명 단독" : String.join(",", query.categories()), result.saved());
+                }
 
-        for (Map.Entry<String, List<String>> entry : POSITIVE_KEYWORD_CATEGORIES.entrySet()) {
-            // ← API 제한 체크 추가
-            if (apiLimitReached) {
-                log.warn("API 제한 플래그 감지, 키워드 루프 중단");
-                return totalCount;
+            } catch (QuotaExceededException e) {
+                throw e;
+            } catch (Exception e) {
+                log.debug("⚠️ 검색 실패 [{}]: {}", query.text(), e.getMessage());
             }
+        }
 
-            String category = entry.getKey();
-            List<String> keywords = entry.getValue();
+        recordPlannerStats(org, NewsQueryPlanner.unplannedQueryCount(startRules.positiveCategories()),
+                queryCount, unplannedPages, pages, totalCount);
+        return totalCount;
+    }
 
-            for (String keyword : keywords) {
-                // ← API 제한 체크 추가
-                if (apiLimitReached) {
-                    log.warn("API 제한 플래그 감지, 검색 중단");
-                    return totalCount;
-                }
+    /**
+     * 조직별 검색어 계획 통계 - 검색 API 호출(페이지) 수 기준
+     *
+     * apiCalls 는 실제로 요청한 페이지 수 (응답 캐시 적중 포함), estimatedUnplannedApiCalls 는
+     * 키워드마다 따로 검색했을 때 필요했을 호출 수의 하한 추정이다. 검색어 수는 참고용으로만 둔다.
+     */
+    public Map<String, Object> getPlannerStatistics() {
+        int unplannedQueries = 0;
+        int plannedQueries = 0;
+        int unplannedCalls = 0;
+        int calls = 0;
+        for (Map<String, Object> stats : plannerStats.values()) {
+            unplannedQueries += (int) stats.get("unplannedQueries");
+            plannedQueries += (int) stats.get("plannedQueries");
+            unplannedCalls += (int) stats.get("estimatedUnplannedApiCalls");
+            calls += (int) stats.get("apiCalls");
+        }
 
-                try {
-                    String query = org.getName() + " " + keyword;
-                    int count = searchAndSaveNews(org, query, category, keyword, fromYear, toYear, processedUrls);
-                    totalCount += count;
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("maxTermsPerQuery", maxTermsPerQuery);
+        result.put("organizations", plannerStats.size());
+        result.put("estimatedUnplannedApiCalls", unplannedCalls);
+        result.put("apiCalls", calls);
+        result.put("savedApiCalls", unplannedCalls - calls);
+        result.put("unplannedQueries", unplannedQueries);
+        result.put("plannedQueries", plannedQueries);
+        result.put("byOrganization", new TreeMap<>(plannerStats));
+        return result;
+    }
 
-                    if (count > 0) {
-                        log.info("  ✓ [{}] {}: {} 건", org.getName(), keyword, count);
-                    }
+    private void recordPlannerStats(Organization org, int unplannedQueries, int plannedQueries,
+                                    int unplannedCalls, int calls, int saved) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("organizationName", org.getName());
+        stats.put("estimatedUnplannedApiCalls", unplannedCalls);
+        stats.put("apiCalls", calls);
+        stats.put("savedApiCalls", unplannedCalls - calls);
+        stats.put("unplannedQueries", unplannedQueries);
+        stats.put("plannedQueries", plannedQueries);
+        stats.put("savedNews", saved);
+        stats.put("collectedAt", LocalDateTime.now().toString());
+        plannerStats.put(org.getId(), stats);
+    }
 
-                    Thread.sleep(100);
+    /**
+     * @param truncated 기사가 더 남았는데 start 상한이나 페이지 예산 때문에 멈췄는지
+     */
+    private record QueryResult(int saved, int pages, boolean truncated) {
+    }
 
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
+    /**
+     * 검색어 하나를 최신순으로 페이지를 넘기며 수집
+     *
+     * - fromYear 이전 기사가 나오면 멈춘다 (최신순이므로 뒤는 모두 더 오래된 기사)
+     * - 기간 안의 페이지가 max-stale-pages 번 연속 새로 저장할 기사를 내지 못하면 멈춘다
+     *   (이미 모은 구간에 들어섰거나, 검색어에 맞는 기사가 더 없는 경우)
+     * - 페이지 예산은 max-pages × 묶인 키워드 수 (키워드별로 검색했을 때와 같은 예산)
+     * - 네이버 검색 API 의 start 는 최대 1000 (검색어당 최대 1000건) - 예산이 남아도 여기서 멈춘다
+     */
+    private QueryResult searchAndSaveNews(Organization org, OrganizationMentionMatcher mention,
+                                          NewsQueryPlanner.Query query, int fromYear, int toYear,
+                                          Set<String> processedUrls) {
+        int totalSaved = 0;
+        int stalePages = 0;
+        int pages = 0;
+        int pageBudget = maxPages * Math.max(1, query.keywords().size());
+        boolean hasMore = false;
+
+        for (int start = 1; start <= MAX_START && pages < pageBudget; start += display) {
+            PageResult page = searchAndSavePage(org, mention, query, start, fromYear, toYear, processedUrls);
+            pages++;
+            totalSaved += page.saved();
+            hasMore = page.hasMore();
+
+            if (!hasMore) {
+                break;
+            }
+            if (page.inWindow() > 0) {
+                stalePages = page.accepted() > 0 ? 0 : stalePages + 1;
+                if (stalePages >= maxStalePages) {
+                    hasMore = false; // 더 봐도 새 기사가 없다
                     break;
-                } catch (Exception e) {
-                    log.debug("⚠️ 검색 실패 [{} + {}]: {}", org.getName(), keyword, e.getMessage());
                 }
             }
         }
 
-        try {
-            int count = searchAndSaveNews(org, org.getName(), "전체", "전체", fromYear, toYear, processedUrls);
-            totalCount += count;
-            if (count > 0) {
-                log.debug("  ✓ [{}] 회사명 단독 검색: {} 건", org.getName(), count);
-            }
-        } catch (Exception e) {
-            log.debug("⚠️ 전체 검색 실패 [{}]: {}", org.getName(), e.getMessage());
+        if (pages > 1) {
+            log.debug("  ↪ [{}] {} 페이지 {}개 조회, {} 건 저장", org.getName(), query.text(), pages, totalSaved);
         }
+        return new QueryResult(totalSaved, pages, hasMore);
+    }
 
-        return totalCount;
+    /**
+     * 검색 결과 한 페이지
+     *
+     * @param inWindow 수집 기간 안의 기사 수
+     * @param accepted 새로 저장 대상이 된 기사 수
+     * @param hasMore  다음 페이지를 볼 필요가 있는지 (마지막 페이지이거나 fromYear 이전에 닿으면 false)
+     */
+    private record PageResult(int saved, int inWindow, int accepted, boolean hasMore) {
+
+        static final PageResult END = new PageResult(0, 0, 0, false);
     }
 
-    private int searchAndSaveNews(Organization org, String query, String category,
-                                  String keyword, int fromYear, int toYear,
-                                  Set<String> processedUrls) {
+    private PageResult searchAndSavePage(Organization org, OrganizationMentionMatcher mention,
+                                         NewsQueryPlanner.Query query, int start, int fromYear, int toYear,
+                                         Set<String> processedUrls) {
         try {
-            WebClient webClient = webClientBuilder
-                    .baseUrl(searchUrl)
-                    .defaultHeader("X-Naver-Client-Id", clientId)
-                    .defaultHeader("X-Naver-Client-Secret", clientSecret)
-                    .build();
-
-            ObjectMapper mapper = new ObjectMapper();
-
-            String response = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .queryParam("query", query)
-                            .queryParam("display", display)
-                            .queryParam("sort", "date")
-                            .build())
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(10))
-                    .onErrorResume(error -> {
-                        String errorMsg = error.getMessage();
-                        log.warn("API 호출 실패: {}", errorMsg);
-
-                        if (errorMsg != null && errorMsg.contains("429")) {
-                            log.error("🚫 API 할당량 초과! 서버 종료 시작");
-                            apiLimitReached = true;  // ← 플래그 설정
-                            shutdownServer("API 할당량 초과");  // ← 즉시 호출
-                            throw new RuntimeException("API_LIMIT_EXCEEDED: " + errorMsg);
-                        }
-
-                        return Mono.empty();
-                    })
-                    .block();
+            String response = searchNews(query.text(), start);
 
             if (response == null || response.isEmpty()) {
-                return 0;
+                return PageResult.END;
             }
 
-            JsonNode root = mapper.readTree(response);
+            JsonNode root = objectMapper.readTree(response);
             JsonNode items = root.path("items");
 
             if (!items.isArray() || items.size() == 0) {
-                return 0;
+                return PageResult.END;
             }
 
-            int savedCount = 0;
+            // 페이지 하나는 같은 규칙으로 분류 (규칙이 바뀌면 다음 페이지부터 적용)
+            NewsClassificationRules.RuleSet rules = newsRules.current();
+            List<PositiveNews> accepted = new ArrayList<>();
+            boolean reachedCutoff = false;
+            int inWindow = 0;
 
             for (JsonNode item : items) {
                 try {
@@ -368,39 +309,41 @@ public class PositiveNewsCollectorService {
                     String pubDate = item.path("pubDate").asText();
 
                     LocalDate publishedDate = parseNaverDate(pubDate);
-                    if (publishedDate == null ||
-                            publishedDate.getYear() < fromYear ||
-                            publishedDate.getYear() > toYear) {
+                    if (publishedDate == null || publishedDate.getYear() > toYear) {
                         continue;
                     }
+                    if (publishedDate.getYear() < fromYear) {
+                        reachedCutoff = true;
+                        break;
+                    }
+                    inWindow++;
 
-                    if (processedUrls.contains(link) || positiveNewsRepository.existsByUrl(link)) {
+                    if (processedUrls.contains(link) || dedupFilter.isKnownUrl(link)) {
                         continue;
                     }
 
-                    String fullText = title + " " + description;
-
-                    String escapedName = org.getName().replaceAll("([\\(\\)\\[\\]\\{\\}])", "\\\\$1");
-                    if (!fullText.matches(".*\\b" + escapedName + "\\b.*")) {
+                    if (!mention.isMentionedIn(title, description)) {
                         continue;
                     }
 
-                    if (isSummaryNews(title, description)) {
+                    KeywordClassifier.Result matched = rules.classifier().classify(title, description);
+
+                    if (isSummaryNews(title, matched)) {
                         log.trace("❌ 종합뉴스: {}", title);
                         continue;
                     }
 
-                    if (containsNegativeKeyword(fullText)) {
-                        log.trace("❌ 부정 키워드: {}", title);
+                    if (matched.has(KeywordClassifier.Group.NEGATIVE)) {
+                        log.trace("❌ 부정 키워드: {} {}", title, matched.keywords(KeywordClassifier.Group.NEGATIVE));
                         continue;
                     }
 
-                    if (containsIrrelevantKeyword(fullText)) {
+                    if (matched.has(KeywordClassifier.Group.IRRELEVANT)) {
                         log.trace("❌ 무관한 내용: {}", title);
                         continue;
                     }
 
-                    if (!containsPositiveKeyword(fullText)) {
+                    if (!matched.has(KeywordClassifier.Group.POSITIVE)) {
                         continue;
                     }
 
@@ -408,6 +351,12 @@ public class PositiveNewsCollectorService {
                         continue;
                     }
 
+                    // 같은 기사가 다른 URL 로 실린 경우 (동일 조직, 동일 제목)
+                    if (dedupFilter.isKnownTitle(org.getId(), title)) {
+                        log.trace("❌ 중복 제목: {}", title);
+                        continue;
+                    }
+
                     PositiveNews news = new PositiveNews();
                     news.setOrganization(org);
                     news.setOrganizationName(org.getName());
@@ -416,38 +365,82 @@ public class PositiveNewsCollectorService {
                     news.setUrl(link);
                     news.setPublishedDate(publishedDate);
                     news.setSource("NAVER");
-                    news.setCategory(category);
-                    news.setMatchedKeywords(keyword);
+                    news.setCategory(pickCategory(matched, query));
+                    news.setMatchedKeywords(String.join(", ", matched.keywords(KeywordClassifier.Group.POSITIVE)));
+                    news.setRulesVersion(rules.version());
+                    dedupFilter.stamp(news);
 
-                    positiveNewsRepository.save(news);
-                    positiveNewsRepository.flush();
+                    accepted.add(news);
                     processedUrls.add(link);
-                    savedCount++;
-
-                    log.trace("✅ 저장: {}", title);
 
                 } catch (Exception e) {
                     log.trace("⚠️ 뉴스 항목 처리 실패: {}", e.getMessage());
                 }
             }
 
-            return savedCount;
+            int saved = positiveNewsWriter.saveAll(accepted);
+            dedupFilter.remember(accepted);
 
+            boolean lastPage = items.size() < display || start + display > MAX_START;
+            return new PageResult(saved, inWindow, accepted.size(), !reachedCutoff && !lastPage);
+
+        } catch (QuotaExceededException e) {
+            throw e;
         } catch (Exception e) {
-            log.debug("❌ API 호출 실패 [{}]: {}", query, e.getMessage());
-            return 0;
+            log.debug("❌ API 호출 실패 [{} / start={}]: {}", query.text(), start, e.getMessage());
+            return PageResult.END;
+        }
+    }
+
+    /**
+     * 네이버 뉴스 검색 (응답 캐시 → 없으면 API 호출)
+     *
+     * 429 는 naverRateLimiter 가 감속/재시도, 계속되면 QuotaExceededException
+     * 일일 한도는 naverWebClient 필터가 실제 요청(재시도 포함)마다 차감하고, 다 쓰면 QuotaExceededException
+     */
+    private String searchNews(String query, int start) {
+        URI uri = new DefaultUriBuilderFactory(searchUrl).builder()
+                .queryParam("query", query)
+                .queryParam("display", display)
+                .queryParam("start", start)
+                .queryParam("sort", "date")
+                .build();
+
+        Optional<String> cached = responseCache.getString(uri, searchCacheTtl);
+        if (cached.isPresent()) {
+            return cached.get();
         }
+
+        String body = naverRateLimiter.call(
+                () -> naverWebClient.get()
+                        .uri(uri)
+                        .retrieve()
+                        .bodyToMono(String.class)
+                        .block(),
+                response -> false);
+        responseCache.putString(uri, body);
+        return body;
     }
 
-    private boolean isSummaryNews(String title, String description) {
-        String fullText = title + " " + description;
+    /**
+     * 본문에서 일치한 긍정 분류 중 검색어가 겨냥한 분류를 먼저, 없으면 처음 일치한 분류
+     */
+    private String pickCategory(KeywordClassifier.Result matched, NewsQueryPlanner.Query query) {
+        Set<String> categories = matched.categories(KeywordClassifier.Group.POSITIVE).keySet();
+        for (String category : query.categories()) {
+            if (categories.contains(category)) {
+                return category;
+            }
+        }
+        return categories.iterator().next();
+    }
 
-        if (SUMMARY_NEWS_KEYWORDS.stream().anyMatch(fullText::contains)) {
+    private boolean isSummaryNews(String title, KeywordClassifier.Result matched) {
+        if (matched.has(KeywordClassifier.Group.SUMMARY)) {
             return true;
         }
 
-        long companyMarkerCount = fullText.chars().filter(ch -> ch == '㈜').count() +
-                (fullText.split("\\(주\\)").length - 1);
+        int companyMarkerCount = matched.count(KeywordClassifier.Group.COMPANY_MARKER);
 
         if (companyMarkerCount >= 3) {
             return true;
@@ -460,24 +453,6 @@ public class PositiveNewsCollectorService {
         return false;
     }
 
-    private boolean containsNegativeKeyword(String text) {
-        String lowerText = text.toLowerCase();
-        return NEGATIVE_KEYWORDS.stream()
-                .anyMatch(keyword -> lowerText.contains(keyword.toLowerCase()));
-    }
-
-    private boolean containsIrrelevantKeyword(String text) {
-        String lowerText = text.toLowerCase();
-        return IRRELEVANT_KEYWORDS.stream()
-                .anyMatch(keyword -> lowerText.contains(keyword.toLowerCase()));
-    }
-
-    private boolean containsPositiveKeyword(String text) {
-        return POSITIVE_KEYWORD_CATEGORIES.values().stream()
-                .flatMap(List::stream)
-                .anyMatch(text::contains);
-    }
-
     private boolean isQualityNews(String title, String description) {
         if (title.length() < 10) return false;
         if (description == null || description.trim().length() < 20) return false;
@@ -514,27 +489,6 @@ public class PositiveNewsCollectorService {
         }
     }
 
-    public Map<String, Object> getCollectionStatus() {
-        Map<String, Object> status = new HashMap<>();
-        status.put("isCollecting", isCollecting);
-        status.put("totalOrganizations", totalOrgs.get());
-        status.put("processedOrganizations", processedOrgs.get());
-        status.put("collectedNews", totalCollectedNews.get());
-
-        int progress = totalOrgs.get() > 0
-                ? (int) (processedOrgs.get() * 100.0 / totalOrgs.get())
-                : 0;
-        status.put("progress", progress + "%");
-
-        Long checkpoint = loadCheckpoint();
-        if (checkpoint != null) {
-            status.put("checkpoint", checkpoint);
-            status.put("checkpointExists", true);
-        }
-
-        return status;
-    }
-
     public Map<String, Object> getNewsStatistics(Long orgId) {
         Map<String, Object> stats = new HashMap<>();
 
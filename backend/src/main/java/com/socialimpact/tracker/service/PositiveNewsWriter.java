@@ -0,0 +1,50 @@
+package com.socialimpact.tracker.service;
+
+import com.socialimpact.tracker.entity.PositiveNews;
+import com.socialimpact.tracker.repository.PositiveNewsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 수집된 긍정 뉴스 저장 전용 (검색 결과 한 페이지 = 다중 행 INSERT ... ON DUPLICATE KEY UPDATE url = url 한 번)
+ *
+ * 검색 API 호출과 필터링은 트랜잭션 밖에서 끝나고, 여기서는 저장만 한다.
+ * 다른 작업이 같은 URL 을 먼저 저장했으면 url unique 제약에 걸려 그 행만 건너뛴다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PositiveNewsWriter {
+
+    private static final UpsertSpec<PositiveNews> NEWS_SPEC = UpsertSpecs.positiveNews();
+
+    private final PositiveNewsRepository positiveNewsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BulkUpsertService bulkUpsertService;
+
+    /**
+     * 뉴스 일괄 저장 - 새로 저장된 건수 (이미 있던 URL 제외)
+     */
+    public int saveAll(List<PositiveNews> newsList) {
+        if (newsList.isEmpty()) {
+            return 0;
+        }
+
+        BulkUpsertService.Result result = bulkUpsertService.upsert(NEWS_SPEC, newsList);
+        if (result.affectedRows() < newsList.size()) {
+            log.debug("중복 URL {}건 건너뜀", newsList.size() - result.affectedRows());
+        }
+        return result.affectedRows();
+    }
+
+    /**
+     * 전체 삭제
+     */
+    public void deleteAll() {
+        transactionTemplate.executeWithoutResult(status -> positiveNewsRepository.deleteAllInBatch());
+    }
+}
@@ -0,0 +1,17 @@
+package com.socialimpact.tracker.service;
+
+/**
+ * 외부 API 호출 한도 초과 (작업을 다음 한도 구간까지 미룬다)
+ */
+public class QuotaExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public QuotaExceededException(String message) {
+        super(message);
+    }
+
+    public QuotaExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,138 @@
+package com.socialimpact.tracker.service;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 업로드 파일 처리 진행 상황 (처리 행 수, 처리량, 오류, 남은 시간)
+ *
+ * 여러 파싱 스레드가 동시에 갱신한다. 남은 시간은 track() 으로 읽은 바이트 기준으로 추정하고,
+ * 엑셀처럼 압축된 파일은 expectRows() 로 알려 준 시트 행 수 기준으로 추정한다.
+ * 둘 다 없으면 진행률과 남은 시간은 null 이다.
+ */
+public class UploadProgress {
+
+    private static final int MAX_ERRORS = 100;
+
+    private final long totalBytes;
+    private final AtomicLong bytesRead = new AtomicLong();
+    private final AtomicLong expectedRows = new AtomicLong();
+    private final AtomicLong rows = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong errorCount = new AtomicLong();
+    private final List<String> errors = new ArrayList<>();
+
+    private volatile long startedAt;
+    private volatile long finishedAt;
+
+    public UploadProgress(long totalBytes) {
+        this.totalBytes = totalBytes;
+    }
+
+    /**
+     * 읽은 바이트를 세는 스트림으로 감싼다
+     */
+    public InputStream track(InputStream in) {
+        markStarted();
+        return new FilterInputStream(in) {
+            @Override
+            public int read() throws IOException {
+                int b = super.read();
+                if (b >= 0) {
+                    bytesRead.incrementAndGet();
+                }
+                return b;
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                int n = super.read(buffer, offset, length);
+                if (n > 0) {
+                    bytesRead.addAndGet(n);
+                }
+                return n;
+            }
+        };
+    }
+
+    /**
+     * 읽기 시작한 파일의 예상 행 수 (파일마다 더해지므로 여러 파일이면 앞쪽 파일에서는 진행률이 높게 나온다)
+     */
+    public void expectRows(long count) {
+        expectedRows.addAndGet(count);
+    }
+
+    public void rowProcessed() {
+        markStarted();
+        rows.incrementAndGet();
+    }
+
+    public void rowsWritten(long count) {
+        written.addAndGet(count);
+    }
+
+    public void error(String message) {
+        errorCount.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(message);
+            }
+        }
+    }
+
+    public void markFinished() {
+        finishedAt = System.currentTimeMillis();
+    }
+
+    public Map<String, Object> toMap() {
+        long now = finishedAt > 0 ? finishedAt : System.currentTimeMillis();
+        long elapsedMs = startedAt > 0 ? now - startedAt : 0;
+        long processedRows = rows.get();
+        long readBytes = bytesRead.get();
+        long expected = expectedRows.get();
+
+        Double fraction;
+        if (finishedAt > 0) {
+            fraction = 1.0;
+        } else if (readBytes > 0 && totalBytes > 0) {
+            fraction = Math.min(1.0, (double) readBytes / totalBytes);
+        } else if (expected > 0) {
+            fraction = Math.min(1.0, (double) processedRows / expected);
+        } else {
+            fraction = null; // 추정할 근거가 없다
+        }
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("rowsProcessed", processedRows);
+        map.put("rowsWritten", written.get());
+        map.put("rowsPerSecond", elapsedMs > 0 ? Math.round(processedRows * 1000.0 / elapsedMs) : 0);
+        map.put("bytesRead", readBytes);
+        map.put("totalBytes", totalBytes);
+        map.put("expectedRows", expected > 0 ? expected : null);
+        map.put("progressPercentage", fraction != null ? fraction * 100.0 : null);
+        Long remaining = null;
+        if (fraction != null && fraction >= 1.0) {
+            remaining = 0L;
+        } else if (fraction != null && fraction > 0) {
+            remaining = Math.round(elapsedMs * (1.0 - fraction) / fraction / 1000.0);
+        }
+        map.put("estimatedTimeRemaining", remaining);
+        map.put("errorCount", errorCount.get());
+        synchronized (errors) {
+            map.put("errors", List.copyOf(errors));
+        }
+        return map;
+    }
+
+    private void markStarted() {
+        if (startedAt == 0) {
+            startedAt = System.currentTimeMillis();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.socialimpact.tracker.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 업로드 파일 임시 보관소
+ *
+ * 요청 스레드는 파일을 {spool-dir}/{spoolId}/ 로 옮기고 바로 작업 id 를 돌려준다.
+ * 실제 파싱은 수집 작업(ingestExecutor)이 이 디렉터리에서 읽어 처리하므로
+ * 서버가 재시작되어도 작업을 이어서 처리할 수 있다.
+ */
+@Component
+@Slf4j
+public class UploadSpool {
+
+    private static final int MAX_TRACKED = 50;
+
+    private final Path root;
+    private final Duration retention;
+
+    // spoolId → 진행 상황 (최근 MAX_TRACKED 건)
+    private final Map<String, UploadProgress> progress = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, UploadProgress> eldest) {
+            return size() > MAX_TRACKED;
+        }
+    };
+
+    public UploadSpool(@Value("${ingest.upload.spool-dir:./data/uploads}") String dir,
+                       @Value("${ingest.upload.retention-hours:48}") long retentionHours) {
+        this.root = Paths.get(dir).toAbsolutePath().normalize();
+        this.retention = Duration.ofHours(retentionHours);
+    }
+
+    /**
+     * 업로드 파일을 디스크에 보관 - spoolId 반환
+     */
+    public String spool(List<MultipartFile> files) throws IOException {
+        String spoolId = UUID.randomUUID().toString();
+        Path dir = Files.createDirectories(root.resolve(spoolId));
+
+        int index = 0;
+        for (MultipartFile file : files) {
+            // 같은 이름 파일이 여러 개일 수 있어 순번을 붙인다
+            Path target = dir.resolve(String.format("%03d_%s", index++, safeName(file.getOriginalFilename())));
+            file.transferTo(target);
+        }
+
+        log.info("📥 업로드 {}개 파일 보관: {}", files.size(), dir);
+        return spoolId;
+    }
+
+    /**
+     * 보관된 파일 목록 (업로드 순서)
+     */
+    public List<Path> files(String spoolId) throws IOException {
+        Path dir = dirOf(spoolId);
+        if (!Files.isDirectory(dir)) {
+            throw new IOException("Spooled upload not found: " + spoolId);
+        }
+        try (Stream<Path> stream = Files.list(dir)) {
+            return stream.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * 진행 상황 (처음 호출될 때 전체 바이트 수로 생성)
+     */
+    public UploadProgress start(String spoolId, List<Path> files) {
+        long totalBytes = 0;
+        for (Path file : files) {
+            try {
+                totalBytes += Files.size(file);
+            } catch (IOException e) {
+                // 크기를 모르면 행 기준 진행률만 사용
+            }
+        }
+        UploadProgress started = new UploadProgress(totalBytes);
+        synchronized (progress) {
+            progress.put(spoolId, started);
+        }
+        return started;
+    }
+
+    public Map<String, Object> describe(String spoolId) {
+        UploadProgress found;
+        synchronized (progress) {
+            found = spoolId != null ? progress.get(spoolId) : null;
+        }
+        return found != null ? found.toMap() : Map.of();
+    }
+
+    /**
+     * 처리 끝난 업로드 파일 삭제 (진행 상황은 남겨 둔다)
+     */
+    public void discard(String spoolId) {
+        deleteRecursively(dirOf(spoolId));
+    }
+
+    /**
+     * 보관 기간이 지난 업로드 정리 (취소/실패 후 방치된 파일)
+     */
+    @Scheduled(fixedDelay = 3_600_000)
+    public void purgeExpired() {
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        Instant cutoff = Instant.now().minus(retention);
+        try (Stream<Path> dirs = Files.list(root)) {
+            dirs.filter(Files::isDirectory).forEach(dir -> {
+                try {
+                    if (Files.getLastModifiedTime(dir).toInstant().isBefore(cutoff)) {
+                        log.info("🧹 오래된 업로드 삭제: {}", dir.getFileName());
+                        deleteRecursively(dir);
+                    }
+                } catch (IOException e) {
+                    log.warn("⚠️ 업로드 정리 실패 [{}]: {}", dir, e.getMessage());
+                }
+            });
+        } catch (IOException e) {
+            log.warn("⚠️ 업로드 디렉터리 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 보관 파일의 원래 이름 (보관 시 붙인 순번 제거)
+     */
+    public static String originalName(Path file) {
+        String name = file.getFileName().toString();
+        return name.matches("\\d{3}_.*") ? name.substring(4) : name;
+    }
+
+    private Path dirOf(String spoolId) {
+        // UUID 만 허용 (경로 조작 방지)
+        return root.resolve(UUID.fromString(spoolId).toString());
+    }
+
+    private static String safeName(String filename) {
+        String name = filename != null ? Paths.get(filename).getFileName().toString() : "upload";
+        return name.replaceAll("[^\\p{L}\\p{N}._-]", "_");
+    }
+
+    private static void deleteRecursively(Path dir) {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    log.warn("⚠️ 파일 삭제 실패 [{}]: {}", path, e.getMessage());
+                }
+            });
+        } catch (IOException e) {
+            log.warn("⚠️ 디렉터리 삭제 실패 [{}]: {}", dir, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.socialimpact.tracker.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 일괄 upsert 대상 정의 - 테이블, 자연키 컬럼, 컬럼별 병합 방식
+ *
+ * 자연키는 테이블의 unique 제약과 같아야 ON DUPLICATE KEY UPDATE 가 동작한다.
+ * ignoreDuplicates() 면 병합하지 않고 이미 있는 행을 건너뛴다 (ON DUPLICATE KEY UPDATE 키 = 키).
+ */
+public final class UpsertSpec<T> {
+
+    /**
+     * 이미 있는 행과 합치는 방식
+     */
+    public enum MergeMode {
+        REPLACE,      // 새 값으로 교체 (새 값이 null 이면 기존 값 유지)
+        MAX,          // 큰 값 유지
+        SUM,          // 더하기
+        APPEND,       // 문자열 목록에 없으면 ", " 로 이어붙이기
+        INSERT_ONLY   // 처음 넣을 때만 기록
+    }
+
+    public record Column<T>(String name, Function<T, Object> value, MergeMode mode) {
+    }
+
+    private final String table;
+    private final List<Column<T>> keyColumns;
+    private final List<Column<T>> valueColumns;
+    private final boolean ignoreDuplicates;
+
+    private UpsertSpec(String table, List<Column<T>> keyColumns, List<Column<T>> valueColumns,
+                       boolean ignoreDuplicates) {
+        this.table = table;
+        this.keyColumns = Collections.unmodifiableList(keyColumns);
+        this.valueColumns = Collections.unmodifiableList(valueColumns);
+        this.ignoreDuplicates = ignoreDuplicates;
+    }
+
+    public static <T> Builder<T> into(String table) {
+        return new Builder<>(table);
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public List<Column<T>> getKeyColumns() {
+        return keyColumns;
+    }
+
+    public List<Column<T>> getValueColumns() {
+        return valueColumns;
+    }
+
+    public boolean isIgnoreDuplicates() {
+        return ignoreDuplicates;
+    }
+
+    public List<Column<T>> getAllColumns() {
+        List<Column<T>> all = new ArrayList<>(keyColumns);
+        all.addAll(valueColumns);
+        return all;
+    }
+
+    public static final class Builder<T> {
+        private final String table;
+        private final List<Column<T>> keyColumns = new ArrayList<>();
+        private final List<Column<T>> valueColumns = new ArrayList<>();
+        private boolean ignoreDuplicates;
+
+        private Builder(String table) {
+            this.table = table;
+        }
+
+        public Builder<T> key(String column, Function<T, Object> value) {
+            keyColumns.add(new Column<>(column, value, MergeMode.INSERT_ONLY));
+            return this;
+        }
+
+        public Builder<T> column(String column, Function<T, Object> value, MergeMode mode) {
+            valueColumns.add(new Column<>(column, value, mode));
+            return this;
+        }
+
+        /**
+         * 키가 겹치는 행은 기록하지 않는다 (affectedRows = 새로 들어간 행 수)
+         */
+        public Builder<T> ignoreDuplicates() {
+            this.ignoreDuplicates = true;
+            return this;
+        }
+
+        public UpsertSpec<T> build() {
+            if (keyColumns.isEmpty()) {
+                throw new IllegalStateException("Upsert spec for " + table + " needs at least one key column");
+            }
+            return new UpsertSpec<>(table, new ArrayList<>(keyColumns), new ArrayList<>(valueColumns),
+                    ignoreDuplicates);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.socialimpact.tracker.service;
+
+import com.socialimpact.tracker.entity.Donation;
+import com.socialimpact.tracker.entity.Emission;
+import com.socialimpact.tracker.entity.PositiveNews;
+
+import java.time.LocalDateTime;
+
+/**
+ * 수집 경로에서 공통으로 쓰는 upsert 정의
+ */
+public final class UpsertSpecs {
+
+    private UpsertSpecs() {
+    }
+
+    /**
+     * donations - 자연키 (organization_id, year, quarter)
+     *
+     * @param amountMode 기부금 금액 병합 방식 (DART/일괄 임포트: REPLACE, CSV: MAX)
+     * @param detailMode 나머지 속성 병합 방식 (CSV 는 처음 넣을 때만 기록: INSERT_ONLY)
+     */
+    public static UpsertSpec<Donation> donations(UpsertSpec.MergeMode amountMode, UpsertSpec.MergeMode detailMode) {
+        return UpsertSpec.<Donation>into("donations")
+                .key("organization_id", Donation::getOrganizationId)
+                .key("year", Donation::getYear)
+                .key("quarter", Donation::getQuarter)
+                .column("organization_name", Donation::getOrganizationName, detailMode)
+                .column("stock_code", Donation::getStockCode, detailMode)
+                .column("donation_amount", Donation::getDonationAmount, amountMode)
+                .column("currency", Donation::getCurrency, detailMode)
+                .column("report_type", Donation::getReportType, detailMode)
+                .column("fiscal_month", Donation::getFiscalMonth, detailMode)
+                .column("data_source", Donation::getDataSource, detailMode)
+                .column("verification_status", Donation::getVerificationStatus, detailMode)
+                .column("created_at", d -> LocalDateTime.now(), UpsertSpec.MergeMode.INSERT_ONLY)
+                .column("updated_at", d -> LocalDateTime.now(), UpsertSpec.MergeMode.REPLACE)
+                .build();
+    }
+
+    /**
+     * emissions - 자연키 (organization_id, year), 이미 합산된 연간 합계로 교체
+     */
+    public static UpsertSpec<Emission> emissions() {
+        return UpsertSpec.<Emission>into("emissions")
+                .key("organization_id", Emission::getOrganizationId)
+                .key("year", Emission::getYear)
+                .column("organization_name", Emission::getOrganizationName, UpsertSpec.MergeMode.REPLACE)
+                .column("gir_company_name", Emission::getGirCompanyName, UpsertSpec.MergeMode.REPLACE)
+                .column("total_emissions", Emission::getTotalEmissions, UpsertSpec.MergeMode.REPLACE)
+                .column("energy_usage", Emission::getEnergyUsage, UpsertSpec.MergeMode.REPLACE)
+                .column("industry", Emission::getIndustry, UpsertSpec.MergeMode.REPLACE)
+                .column("data_source", Emission::getDataSource, UpsertSpec.MergeMode.REPLACE)
+                .column("verification_status", Emission::getVerificationStatus, UpsertSpec.MergeMode.REPLACE)
+                .column("created_at", e -> LocalDateTime.now(), UpsertSpec.MergeMode.INSERT_ONLY)
+                .build();
+    }
+
+    /**
+     * positive_news - 자연키 url (unique), 이미 있는 URL 은 건너뛴다
+     */
+    public static UpsertSpec<PositiveNews> positiveNews() {
+        return UpsertSpec.<PositiveNews>into("positive_news")
+                .key("url", PositiveNews::getUrl)
+                .column("url_hash", PositiveNews::getUrlHash, UpsertSpec.MergeMode.INSERT_ONLY)
+                .column("title_hash", PositiveNews::getTitleHash, UpsertSpec.MergeMode.INSERT_ONLY)
+                .column("organization_id", PositiveNews::getOrganizationId, UpsertSpec.MergeMode.INSERT_ONLY)
+                .column("organization_name", PositiveNews::getOrganizationName, UpsertSpec.MergeMode.INSERT_ONLY)
+                .column("title", PositiveNews::getTitle, UpsertSpec.MergeMode.INSERT_ONLY)
+                .column("description", PositiveNews::getDescription, UpsertSpec.MergeMode.INSERT_ONLY)
+                .column("published_date", PositiveNews::getPublishedDate, UpsertSpec.MergeMode.INSERT_ONLY)
+                .column("source", PositiveNews::getSource, UpsertSpec.MergeMode.INSERT_ONLY)
+                .column("category", PositiveNews::getCategory, UpsertSpec.MergeMode.INSERT_ONLY)
+                .column("matched_keywords", PositiveNews::getMatchedKeywords, UpsertSpec.MergeMode.INSERT_ONLY)
+                .column("rules_version", PositiveNews::getRulesVersion, UpsertSpec.MergeMode.INSERT_ONLY)
+                .column("created_at", n -> LocalDateTime.now(), UpsertSpec.MergeMode.INSERT_ONLY)
+                .ignoreDuplicates()
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.socialimpact.tracker.client.replay;
+
+import com.socialimpact.tracker.client.AdaptiveRateLimiter;
+import com.socialimpact.tracker.service.QuotaExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StubUpstreamServerTest {
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void replaysRecordingRegardlessOfHostAndCredentials() throws Exception {
+		RecordingStore store = new RecordingStore(dir);
+		store.save(URI.create("https://opendart.fss.or.kr/api/company.json?crtfc_key=real&corp_code=00126380"),
+				200, "application/json", "{\"status\":\"000\",\"corp_name\":\"삼성전자\"}".getBytes(StandardCharsets.UTF_8));
+
+		try (StubUpstreamServer server = new StubUpstreamServer(store, 0, new StubUpstreamServer.Faults())) {
+			server.start();
+
+			String body = WebClient.create(server.getBaseUrl()).get()
+					.uri("/api/company.json?corp_code=00126380&crtfc_key=other")
+					.retrieve()
+					.bodyToMono(String.class)
+					.block();
+
+			assertThat(body).contains("삼성전자");
+			assertThat(server.getStats()).containsEntry("replayed", 1L);
+		}
+	}
+
+	@Test
+	void injectedThrottlingSlowsLimiterThenGivesUp() throws Exception {
+		StubUpstreamServer.Faults faults = new StubUpstreamServer.Faults();
+		faults.setThrottleRate(1.0);
+		faults.setRetryAfterSeconds(0);
+
+		try (StubUpstreamServer server = new StubUpstreamServer(new RecordingStore(dir), 0, faults)) {
+			server.start();
+			WebClient client = WebClient.create(server.getBaseUrl());
+			AdaptiveRateLimiter limiter = new AdaptiveRateLimiter("stub", 50, 1, 50, 1, 3, new SimpleMeterRegistry());
+
+			assertThatThrownBy(() -> limiter.call(
+					() -> client.get().uri("/v1/search/news.json?query=test").retrieve().bodyToMono(String.class).block(),
+					body -> false))
+					.isInstanceOf(QuotaExceededException.class);
+
+			assertThat(server.getThrottledCount()).isEqualTo(3);
+			assertThat(limiter.getRate()).isLessThan(50);
+		}
+	}
+}
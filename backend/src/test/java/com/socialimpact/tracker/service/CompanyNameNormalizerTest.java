@@ -0,0 +1,41 @@
+package com.socialimpact.tracker.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompanyNameNormalizerTest {
+
+	private final CompanyNameNormalizer normalizer = new CompanyNameNormalizer();
+
+	@Test
+	void removesCorporateFormsAndSeparators() {
+		assertThat(normalizer.normalize("삼성전자 주식회사")).isEqualTo("삼성전자");
+		assertThat(normalizer.normalize("(주)한화")).isEqualTo("한화");
+		assertThat(normalizer.normalize("㈜농심")).isEqualTo("농심");
+		assertThat(normalizer.normalize("한국전력공사 [본사]")).isEqualTo("한국전력공사본사");
+	}
+
+	@Test
+	void englishAndKoreanSpellingsNormalizeToSameKey() {
+		assertThat(normalizer.normalize("SK하이닉스")).isEqualTo(normalizer.normalize("에스케이하이닉스"));
+		assertThat(normalizer.normalize("LG화학")).isEqualTo(normalizer.normalize("엘지화학(주)"));
+		assertThat(normalizer.normalize("POSCO홀딩스")).isEqualTo(normalizer.normalize("포스코홀딩스"));
+		assertThat(normalizer.normalize("Posco")).isEqualTo("posco");
+	}
+
+	@Test
+	void emptyInput() {
+		assertThat(normalizer.normalize(null)).isEmpty();
+		assertThat(normalizer.normalize("")).isEmpty();
+	}
+
+	@Test
+	void cacheIsBounded() {
+		CompanyNameNormalizer small = new CompanyNameNormalizer(2);
+		small.normalize("a");
+		small.normalize("b");
+		small.normalize("c");
+		assertThat(small.cacheSize()).isLessThanOrEqualTo(2);
+	}
+}
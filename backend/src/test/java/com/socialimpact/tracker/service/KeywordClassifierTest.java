@@ -0,0 +1,57 @@
+package com.socialimpact.tracker.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.socialimpact.tracker.service.KeywordClassifier.Group.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeywordClassifierTest {
+
+	private final KeywordClassifier classifier = KeywordClassifier.builder()
+			.addCategories(POSITIVE, Map.of(
+					"기부", List.of("기부", "재능기부", "장학금"),
+					"환경", List.of("ESG", "탄소중립")))
+			.addAll(NEGATIVE, List.of("횡령", "기부금 횡령"))
+			.addAll(SUMMARY, List.of("장 마감 후"))
+			.addAll(COMPANY_MARKER, List.of("㈜", "(주)"))
+			.build();
+
+	@Test
+	void findsOverlappingKeywordsInOnePass() {
+		KeywordClassifier.Result result = classifier.classify("삼성전자 재능기부 행사", "장학금 전달");
+
+		assertThat(result.keywords(POSITIVE)).containsExactly("재능기부", "기부", "장학금");
+		assertThat(result.categories(POSITIVE)).containsOnlyKeys("기부");
+		assertThat(result.has(NEGATIVE)).isFalse();
+	}
+
+	@Test
+	void ignoresCase() {
+		assertThat(classifier.classify("esg 경영 강화").keywords(POSITIVE)).containsExactly("ESG");
+	}
+
+	@Test
+	void partsAreJoinedWithSingleSpace() {
+		assertThat(classifier.classify("오늘 장", "마감 후 공시").has(SUMMARY)).isTrue();
+		assertThat(classifier.classify("기부금", "횡령").keywords(NEGATIVE)).containsExactlyInAnyOrder("횡령", "기부금 횡령");
+	}
+
+	@Test
+	void countsEveryOccurrence() {
+		KeywordClassifier.Result result = classifier.classify("㈜한화, (주)농심, ㈜오뚜기 등");
+
+		assertThat(result.count(COMPANY_MARKER)).isEqualTo(3);
+		assertThat(result.keywords(COMPANY_MARKER)).containsExactly("㈜", "(주)");
+	}
+
+	@Test
+	void emptyInput() {
+		KeywordClassifier.Result result = classifier.classify("", null);
+
+		assertThat(result.has(POSITIVE)).isFalse();
+		assertThat(result.keywords(POSITIVE)).isEmpty();
+	}
+}
@@ -0,0 +1,55 @@
+package com.socialimpact.tracker.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NewsQueryPlannerTest {
+
+	private static Map<String, List<String>> categories() {
+		Map<String, List<String>> categories = new LinkedHashMap<>();
+		categories.put("기부", List.of("기부", "후원", "성금"));
+		categories.put("봉사", List.of("봉사", "재능 기부", "후원"));
+		categories.put("환경", List.of("ESG", "친환경"));
+		return categories;
+	}
+
+	@Test
+	void packsKeywordsIntoOrQueriesAndEndsWithBroadQuery() {
+		List<NewsQueryPlanner.Query> queries = NewsQueryPlanner.plan("삼성전자", categories(), 4);
+
+		assertThat(queries).extracting(NewsQueryPlanner.Query::text).containsExactly(
+				"삼성전자 기부 | 후원 | 성금 | 봉사",
+				"삼성전자 \"재능 기부\" | ESG | 친환경",
+				"삼성전자");
+		assertThat(queries.get(0).categories()).containsExactly("기부", "봉사");
+		assertThat(queries.get(1).categories()).containsExactly("봉사", "환경");
+		assertThat(queries.get(2).isBroad()).isTrue();
+	}
+
+	@Test
+	void singleTermLimitFallsBackToOneQueryPerKeyword() {
+		List<NewsQueryPlanner.Query> queries = NewsQueryPlanner.plan("LG", categories(), 1);
+
+		// 중복 키워드(후원)는 한 번만
+		assertThat(queries).hasSize(8);
+		assertThat(queries.get(0).text()).isEqualTo("LG 기부");
+		assertThat(NewsQueryPlanner.unplannedQueryCount(categories())).isEqualTo(queries.size());
+	}
+
+	@Test
+	void splitTurnsPackedQueryIntoOneQueryPerKeyword() {
+		NewsQueryPlanner.Query packed = NewsQueryPlanner.plan("삼성전자", categories(), 4).get(1);
+
+		List<NewsQueryPlanner.Query> split = NewsQueryPlanner.split("삼성전자", packed, categories());
+
+		assertThat(split).extracting(NewsQueryPlanner.Query::text).containsExactly(
+				"삼성전자 \"재능 기부\"", "삼성전자 ESG", "삼성전자 친환경");
+		assertThat(split.get(0).categories()).containsExactly("봉사");
+		assertThat(split.get(1).categories()).containsExactly("환경");
+	}
+}
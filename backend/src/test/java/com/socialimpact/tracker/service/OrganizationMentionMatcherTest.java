@@ -0,0 +1,46 @@
+package com.socialimpact.tracker.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrganizationMentionMatcherTest {
+
+	@Test
+	void acceptsNameFollowedByParticle() {
+		OrganizationMentionMatcher matcher = OrganizationMentionMatcher.of("삼성전자", List.of());
+
+		assertThat(matcher.isMentionedIn("삼성전자는 연말 성금을 기탁했다")).isTrue();
+		assertThat(matcher.isMentionedIn("올해 삼성전자의 사회공헌")).isTrue();
+		assertThat(matcher.isMentionedIn("[삼성전자] 이웃사랑 성금")).isTrue();
+	}
+
+	@Test
+	void rejectsNameInsideAnotherWord() {
+		OrganizationMentionMatcher matcher = OrganizationMentionMatcher.of("한화", List.of());
+
+		assertThat(matcher.isMentionedIn("신한화학 공장 증설")).isFalse();
+		assertThat(matcher.isMentionedIn("한화솔루션 신규채용")).isFalse();
+		assertThat(matcher.isMentionedIn("한화가 후원하는 행사")).isTrue();
+	}
+
+	@Test
+	void latinNamesNeedLatinBoundaries() {
+		OrganizationMentionMatcher matcher = OrganizationMentionMatcher.of("LG", List.of());
+
+		assertThat(matcher.isMentionedIn("LG화학 협약식")).isFalse();
+		assertThat(matcher.isMentionedIn("LGES 배터리")).isFalse();
+		assertThat(matcher.isMentionedIn("lg는 올해도 봉사")).isTrue();
+	}
+
+	@Test
+	void usesCorporateFormSpellingAndConfiguredAliases() {
+		OrganizationMentionMatcher matcher = OrganizationMentionMatcher.of("(주)에스케이하이닉스", List.of("하닉"));
+
+		assertThat(matcher.getAliases()).contains("에스케이하이닉스", "SK하이닉스", "하닉");
+		assertThat(matcher.isMentionedIn("SK하이닉스, 장학금 전달")).isTrue();
+		assertThat(matcher.isMentionedIn("제목", "하닉이 인재양성에 나선다")).isTrue();
+	}
+}